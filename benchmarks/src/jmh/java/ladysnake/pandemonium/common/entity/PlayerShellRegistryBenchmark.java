@@ -0,0 +1,105 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.pandemonium.common.entity;
+
+import ladysnake.requiem.benchmark.HeadlessEntities;
+import ladysnake.requiem.benchmark.MinecraftBootstrap;
+import net.minecraft.entity.ai.TargetPredicate;
+import net.minecraft.util.math.Box;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Measures the shell lookup that {@code FollowTargetGoalMixin} performs each time a hostile mob searches for a target.
+ *
+ * <p>Shells are spread over a 96 block wide area around a mob standing at the origin, so that only some of them
+ * are inside the mob's search box. The searcher-side checks of the target predicate (teams, line of sight) need a live
+ * world and are left out; they only run on shells that are already inside the search box.
+ */
+@State(Scope.Thread)
+public class PlayerShellRegistryBenchmark {
+    private static final double FOLLOW_RANGE = 16.0;
+    private static final double MOB_EYE_HEIGHT = 1.74;
+
+    @Param({"0", "10", "100"})
+    public int shellCount;
+
+    private PlayerShellRegistry registry;
+    private TargetPredicate predicate;
+    private Box mobBox;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        MinecraftBootstrap.init();
+        Random random = new Random(42);
+        this.registry = new PlayerShellRegistry();
+        for (int i = 0; i < this.shellCount; i++) {
+            this.registry.onShellLoaded(createShell(random.nextDouble() * 96 - 48, 64, random.nextDouble() * 96 - 48));
+        }
+        // Same as the predicate built by FollowTargetGoal
+        this.predicate = new TargetPredicate().setBaseMaxDistance(FOLLOW_RANGE);
+        this.mobBox = new Box(-0.3, 64, -0.3, 0.3, 65.95, 0.3);
+    }
+
+    @Benchmark
+    public @Nullable PlayerShellEntity getClosestShell() {
+        return this.registry.getClosestShell(this.predicate, null, 0, 64 + MOB_EYE_HEIGHT, 0, this.mobBox.expand(FOLLOW_RANGE, 4.0, FOLLOW_RANGE));
+    }
+
+    /**
+     * Reproduces {@code FollowTargetGoalMixin#addShellsAsTargets}, including the early exit for worlds without shells
+     */
+    @Benchmark
+    public @Nullable PlayerShellEntity followTargetGoal() {
+        if (!this.registry.isEmpty()) {
+            return this.registry.getClosestShell(this.predicate, null, 0, 64 + MOB_EYE_HEIGHT, 0, this.mobBox.expand(FOLLOW_RANGE, 4.0, FOLLOW_RANGE));
+        }
+        return null;
+    }
+
+    private static PlayerShellEntity createShell(double x, double y, double z) throws ReflectiveOperationException {
+        PlayerShellEntity shell = HeadlessEntities.allocate(PlayerShellEntity.class);
+        // the data tracker holds the health read by the target predicate
+        HeadlessEntities.initDataTracker(shell);
+        HeadlessEntities.setPosition(shell, x, y, z, 0.6F, 1.8F);
+        return shell;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.benchmark;
+
+import ladysnake.requiem.api.v1.possession.PossessionComponent;
+import ladysnake.requiem.common.entity.attribute.CooldownStrengthModifier;
+import ladysnake.requiem.common.entity.attribute.NonDeterministicModifier;
+import ladysnake.requiem.common.entity.attribute.PossessionDelegatingModifier;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
+import net.minecraft.entity.attribute.EntityAttributeModifier;
+import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures attack damage reads with the final modifiers added by {@code EntityAttributeInstanceMixin}.
+ *
+ * <p>Mixins are not applied here, so the benchmark reproduces the injected code on top of the vanilla value,
+ * using the real {@link PossessionDelegatingModifier} and {@link CooldownStrengthModifier}.
+ * The possessed zombie's own attribute is read without its final modifiers.
+ */
+@State(Scope.Thread)
+public class AttributeBenchmark {
+    private EntityAttributeInstance playerAttribute;
+    private EntityAttributeInstance mobAttribute;
+    private NonDeterministicModifier[] notPossessing;
+    private NonDeterministicModifier[] possessing;
+    private NonDeterministicModifier[] possessed;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        MinecraftBootstrap.init();
+        ServerPlayerEntity player = HeadlessEntities.allocate(ServerPlayerEntity.class);
+        HeadlessEntities.setAttributes(player, PlayerEntity.createPlayerAttributes().build());
+        PossessedZombie zombie = HeadlessEntities.allocate(PossessedZombie.class);
+        HeadlessEntities.setAttributes(zombie, ZombieEntity.createZombieAttributes().build());
+        zombie.setPossessor(player);
+
+        this.playerAttribute = player.getAttributeInstance(EntityAttributes.GENERIC_ATTACK_DAMAGE);
+        this.playerAttribute.addPersistentModifier(new EntityAttributeModifier("benchmark", 0.5, EntityAttributeModifier.Operation.MULTIPLY_TOTAL));
+        this.mobAttribute = zombie.getAttributeInstance(EntityAttributes.GENERIC_ATTACK_DAMAGE);
+        this.notPossessing = new NonDeterministicModifier[] {new PossessionDelegatingModifier(EntityAttributes.GENERIC_ATTACK_DAMAGE, new StubPossessionComponent(null))};
+        this.possessing = new NonDeterministicModifier[] {new PossessionDelegatingModifier(EntityAttributes.GENERIC_ATTACK_DAMAGE, new StubPossessionComponent(zombie))};
+        this.possessed = new NonDeterministicModifier[] {new CooldownStrengthModifier(zombie)};
+    }
+
+    @Benchmark
+    public double vanillaGetValue() {
+        return this.playerAttribute.getValue();
+    }
+
+    @Benchmark
+    public double playerNotPossessing() {
+        return getValue(this.playerAttribute, this.notPossessing);
+    }
+
+    @Benchmark
+    public double playerPossessing() {
+        return getValue(this.playerAttribute, this.possessing);
+    }
+
+    @Benchmark
+    public double possessedMob() {
+        return getValue(this.mobAttribute, this.possessed);
+    }
+
+    private static double getValue(EntityAttributeInstance attribute, NonDeterministicModifier[] modifiers) {
+        double value = attribute.getValue();
+        double modified = NonDeterministicModifier.applyAll(modifiers, value);
+        return Double.isNaN(modified) ? value : modified;
+    }
+
+    private static final class StubPossessionComponent implements PossessionComponent {
+        private final @Nullable MobEntity possessed;
+
+        StubPossessionComponent(@Nullable MobEntity possessed) {
+            this.possessed = possessed;
+        }
+
+        @Override
+        public @Nullable MobEntity getPossessedEntity() {
+            return this.possessed;
+        }
+
+        @Override
+        public boolean isPossessing() {
+            return this.possessed != null;
+        }
+
+        @Override
+        public boolean startPossessing(MobEntity mob, boolean simulate) {
+            return false;
+        }
+
+        @Override
+        public void stopPossessing() {
+            // NO-OP
+        }
+
+        @Override
+        public void stopPossessing(boolean transfer) {
+            // NO-OP
+        }
+
+        @Override
+        public boolean canBeCured(ItemStack cure) {
+            return false;
+        }
+
+        @Override
+        public void startCuring() {
+            // NO-OP
+        }
+
+        @Override
+        public boolean isCuring() {
+            return false;
+        }
+
+        @Override
+        public void serverTick() {
+            // NO-OP
+        }
+
+        @Override
+        public void readFromNbt(CompoundTag tag) {
+            // NO-OP
+        }
+
+        @Override
+        public void writeToNbt(CompoundTag tag) {
+            // NO-OP
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.benchmark;
+
+import ladysnake.requiem.common.impl.remnant.SimpleAttritionFocus;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Measures the serialization of attrition levels, which happens with every save of an entity or scoreboard holding them
+ */
+@State(Scope.Thread)
+public class AttritionFocusBenchmark {
+    @Param({"0", "1", "16", "256"})
+    public int playerCount;
+
+    private SimpleAttritionFocus focus;
+    private CompoundTag serialized;
+
+    @Setup
+    public void setup() {
+        MinecraftBootstrap.init();
+        Random random = new Random(42);
+        this.focus = new SimpleAttritionFocus();
+        for (int i = 0; i < this.playerCount; i++) {
+            this.focus.addAttrition(new UUID(random.nextLong(), random.nextLong()), 1 + random.nextInt(4));
+        }
+        this.serialized = new CompoundTag();
+        this.focus.writeToNbt(this.serialized);
+    }
+
+    @Benchmark
+    public CompoundTag write() {
+        CompoundTag tag = new CompoundTag();
+        this.focus.writeToNbt(tag);
+        return tag;
+    }
+
+    @Benchmark
+    public SimpleAttritionFocus read() {
+        SimpleAttritionFocus read = new SimpleAttritionFocus();
+        read.readFromNbt(this.serialized);
+        return read;
+    }
+
+    @Benchmark
+    public SimpleAttritionFocus roundTrip() {
+        CompoundTag tag = new CompoundTag();
+        this.focus.writeToNbt(tag);
+        SimpleAttritionFocus read = new SimpleAttritionFocus();
+        read.readFromNbt(tag);
+        return read;
+    }
+}
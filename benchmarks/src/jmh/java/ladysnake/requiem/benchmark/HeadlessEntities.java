@@ -0,0 +1,116 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.benchmark;
+
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.attribute.AttributeContainer;
+import net.minecraft.entity.attribute.DefaultAttributeContainer;
+import net.minecraft.entity.data.DataTracker;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.World;
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates entities and worlds without running their constructors, which need a running game.
+ *
+ * <p>No constructor runs: each benchmark initializes only the state its code path reads.
+ * Fields are looked up by their yarn names, which is what the benchmarks run with.
+ */
+public final class HeadlessEntities {
+    private static final Objenesis OBJENESIS = new ObjenesisStd();
+
+    public static <E extends Entity> E allocate(Class<E> type) {
+        return OBJENESIS.newInstance(type);
+    }
+
+    /**
+     * Creates a server world that only supports reading the world time, which stays at 0
+     */
+    public static ServerWorld allocateServerWorld() throws ReflectiveOperationException {
+        ServerWorld world = OBJENESIS.newInstance(ServerWorld.class);
+        // the simplest mutable properties to build, the server's own require a full level save
+        setField(World.class, world, "properties", new ClientWorld.Properties(Difficulty.NORMAL, false, false));
+        return world;
+    }
+
+    /**
+     * Sets up the data tracker, so that tracked values like health can be read
+     */
+    public static void initDataTracker(Entity entity) throws ReflectiveOperationException {
+        setField(Entity.class, entity, "dataTracker", new DataTracker(entity));
+        Method initDataTracker = findMethod(entity.getClass(), "initDataTracker");
+        initDataTracker.setAccessible(true);
+        initDataTracker.invoke(entity);
+    }
+
+    public static void setAttributes(LivingEntity entity, DefaultAttributeContainer attributes) throws ReflectiveOperationException {
+        setField(LivingEntity.class, entity, "attributes", new AttributeContainer(attributes));
+    }
+
+    /**
+     * Sets the position and bounding box of an entity, which has no type to take dimensions from
+     */
+    public static void setPosition(Entity entity, double x, double y, double z, float width, float height) throws ReflectiveOperationException {
+        setField(Entity.class, entity, "pos", new Vec3d(x, y, z));
+        float halfWidth = width / 2;
+        entity.setBoundingBox(new Box(x - halfWidth, y, z - halfWidth, x + halfWidth, y + height, z + halfWidth));
+    }
+
+    private static Method findMethod(Class<?> type, String name) throws NoSuchMethodException {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name);
+            } catch (NoSuchMethodException ignored) {
+                // look in the superclass
+            }
+        }
+        throw new NoSuchMethodException(type.getName() + "#" + name);
+    }
+
+    private static void setField(Class<?> owner, Object instance, String name, Object value) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client.render;
+
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.VertexConsumers;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+
+/**
+ * Measures the per-frame allocations of {@link RequiemVertexConsumerProvider} while a secondary effect layer is active
+ *
+ * <p>Read the {@code gc.alloc.rate.norm} column from the gc profiler. The parent provider discards every vertex
+ * and nothing is ever drawn, so no OpenGL context is needed.
+ */
+@State(Scope.Thread)
+public class VertexConsumerProviderBenchmark {
+    private static final VertexConsumer SINK = new SinkVertexConsumer();
+
+    /**
+     * Number of {@link #getBuffer(Blackhole)} calls per frame, roughly one per rendered entity model
+     */
+    @Param({"1", "16", "50", "128"})
+    public int drawCalls;
+
+    private RequiemVertexConsumerProvider provider;
+    private RenderLayer[] layers;
+    private RequiemVertexConsumerProvider.EffectVertexConsumer effectConsumer;
+
+    @Setup
+    public void setup() {
+        this.provider = new RequiemVertexConsumerProvider(new SinkImmediate());
+        this.provider.setLayer(RenderLayer.getEntityTranslucent(new Identifier("textures/entity/zombie/zombie.png")));
+        this.provider.setColor(255, 0, 0, 128);
+        // a handful of distinct layers, like a frame with several kinds of entities
+        this.layers = new RenderLayer[8];
+        for (int i = 0; i < this.layers.length; i++) {
+            this.layers[i] = RenderLayer.getEntityCutoutNoCull(new Identifier("requiem", "textures/entity/benchmark_" + i + ".png"));
+        }
+        this.effectConsumer = new RequiemVertexConsumerProvider.EffectVertexConsumer().reset(SINK, SINK, 255, 0, 0, 128);
+    }
+
+    @Benchmark
+    public void getBuffer(Blackhole bh) {
+        for (int i = 0; i < this.drawCalls; i++) {
+            bh.consume(this.provider.getBuffer(this.layers[i % this.layers.length]));
+        }
+    }
+
+    /**
+     * Reproduces the wrappers allocated on every call before consumers were pooled, as a reference point
+     */
+    @Benchmark
+    public void getBufferUnpooled(Blackhole bh) {
+        for (int i = 0; i < this.drawCalls; i++) {
+            RequiemVertexConsumerProvider.FixedVertexConsumer fixed = new RequiemVertexConsumerProvider.FixedVertexConsumer();
+            fixed.reset(SINK, 255, 0, 0, 128);
+            bh.consume(VertexConsumers.dual(fixed, SINK));
+        }
+    }
+
+    /**
+     * Writes one quad per draw call through the pooled consumer
+     */
+    @Benchmark
+    public void writeQuads() {
+        VertexConsumer consumer = this.effectConsumer;
+        for (int i = 0; i < this.drawCalls; i++) {
+            for (int v = 0; v < 4; v++) {
+                consumer.vertex(i, v, 0.5F, 1F, 1F, 1F, 1F, v & 1, v >> 1, 0, 0xF000F0, 0F, 1F, 0F);
+            }
+        }
+    }
+
+    /**
+     * A provider that hands out {@link #SINK} for every layer, so the benchmark never grows or draws a buffer
+     */
+    private static final class SinkImmediate extends VertexConsumerProvider.Immediate {
+        SinkImmediate() {
+            super(new BufferBuilder(0), Collections.emptyMap());
+        }
+
+        @Override
+        public VertexConsumer getBuffer(RenderLayer layer) {
+            return SINK;
+        }
+    }
+
+    private static final class SinkVertexConsumer implements VertexConsumer {
+        @Override
+        public VertexConsumer vertex(double x, double y, double z) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            return this;
+        }
+
+        @Override
+        public void next() {
+            // NO-OP
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.ability;
+
+import io.netty.buffer.Unpooled;
+import ladysnake.requiem.api.v1.entity.ability.AbilityType;
+import ladysnake.requiem.api.v1.entity.ability.MobAbilityConfig;
+import ladysnake.requiem.benchmark.HeadlessEntities;
+import ladysnake.requiem.benchmark.MinecraftBootstrap;
+import ladysnake.requiem.benchmark.PossessedZombie;
+import ladysnake.requiem.common.entity.ability.IndirectAbilityBase;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the per-tick update of a possessed mob's abilities, and the sync packet sent to its possessor.
+ *
+ * <p>The mob is not possessed, so cooldown changes do not send anything.
+ */
+@State(Scope.Thread)
+public class AbilityControllerBenchmark {
+    private static final int COOLDOWN = 20;
+
+    private ImmutableMobAbilityController<PossessedZombie> defaultController;
+    private ImmutableMobAbilityController<PossessedZombie> coolingDownController;
+    private ServerPlayerEntity recipient;
+    private PacketByteBuf buf;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        MinecraftBootstrap.init();
+        PossessedZombie zombie = HeadlessEntities.allocate(PossessedZombie.class);
+        zombie.world = HeadlessEntities.allocateServerWorld();
+        this.recipient = HeadlessEntities.allocate(ServerPlayerEntity.class);
+        this.buf = new PacketByteBuf(Unpooled.buffer());
+
+        this.defaultController = new ImmutableMobAbilityController<>(new ImmutableMobAbilityConfig.Builder<PossessedZombie>().build(), zombie);
+        MobAbilityConfig<PossessedZombie> cooldownConfig = new ImmutableMobAbilityConfig.Builder<PossessedZombie>()
+            .indirectAttack(mob -> new IndirectAbilityBase<PossessedZombie>(mob, COOLDOWN) {
+                @Override
+                protected boolean run() {
+                    this.beginCooldown();
+                    return true;
+                }
+            })
+            .build();
+        this.coolingDownController = new ImmutableMobAbilityController<>(cooldownConfig, zombie);
+
+        // abilities are only created when first needed, which a possessed mob's controller already went through
+        this.defaultController.writeSyncPacket(this.buf, this.recipient);
+        this.coolingDownController.writeSyncPacket(this.buf, this.recipient);
+    }
+
+    /**
+     * Ticks the default abilities, none of which has a cooldown
+     */
+    @Benchmark
+    public void tickDefault() {
+        this.defaultController.tick();
+    }
+
+    /**
+     * Ticks an ability that is used again as soon as its cooldown ends
+     */
+    @Benchmark
+    public void tickCoolingDown() {
+        this.coolingDownController.useIndirect(AbilityType.ATTACK);
+        this.coolingDownController.tick();
+    }
+
+    @Benchmark
+    public PacketByteBuf writeSyncPacket() {
+        PacketByteBuf buf = this.buf;
+        buf.clear();
+        this.defaultController.writeSyncPacket(buf, this.recipient);
+        return buf;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.resurrection;
+
+import com.google.gson.JsonObject;
+import ladysnake.requiem.benchmark.MinecraftBootstrap;
+import net.minecraft.entity.damage.DamageSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Measures the candidate lookup at the start of {@link ResurrectionDataLoader#getNextBody},
+ * using Requiem's builtin resurrection data duplicated to simulate large data packs.
+ *
+ * <p>Only {@link ResurrectionDataLoader.Index#getCandidates} is timed: the loop that matches each candidate
+ * against the dying player requires a live world, and is left out.
+ */
+@State(Scope.Thread)
+public class ResurrectionIndexBenchmark {
+    private static final String[] BUILTIN_DATA = {
+        "drowned", "husk", "possessed_totem_of_skeletonization", "possessed_totem_of_skeletonization_wither",
+        "totem_of_skeletonization", "totem_of_skeletonization_wither", "wither_skeleton", "zombie"
+    };
+
+    @Param({"1", "50"})
+    public int copies;
+
+    private ResurrectionDataLoader.Index index;
+
+    @Setup
+    public void setup() {
+        MinecraftBootstrap.init();
+        List<ResurrectionData> data = new ArrayList<>();
+        for (int i = 0; i < this.copies; i++) {
+            for (String name : BUILTIN_DATA) {
+                data.add(ResurrectionData.deserialize(load(name)));
+            }
+        }
+        Collections.sort(data);
+        this.index = new ResurrectionDataLoader.Index(data);
+    }
+
+    private static JsonObject load(String name) {
+        String path = "/data/requiem/requiem_resurrections/" + name + ".json";
+        try (InputStream in = Objects.requireNonNull(ResurrectionIndexBenchmark.class.getResourceAsStream(path), path);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return ResurrectionDataLoader.GSON.fromJson(reader, JsonObject.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public List<ResurrectionData> indexedDamage() {
+        return this.index.getCandidates(false, DamageSource.DROWN);
+    }
+
+    @Benchmark
+    public List<ResurrectionData> unindexedDamage() {
+        return this.index.getCandidates(false, DamageSource.GENERIC);
+    }
+
+    @Benchmark
+    public List<ResurrectionData> whilePossessing() {
+        return this.index.getCandidates(true, DamageSource.GENERIC);
+    }
+}
@@ -36,6 +36,8 @@ import java.util.UUID;
  * tracked entry whenever their state changes.
  * <p>
  * The tracker is kept synchronized between server and clients.
+ * Clients only get told about the anchors that are relevant to them,
+ * like their own body or anchors within view distance.
  */
 public interface FractureAnchorManager extends Component {
     ComponentKey<FractureAnchorManager> KEY = ComponentRegistry.getOrCreate(new Identifier("pandemonium", "anchor_provider"), FractureAnchorManager.class);
@@ -42,6 +42,7 @@ import io.github.ladysnake.impersonate.Impersonate;
 import ladysnake.pandemonium.api.anchor.FractureAnchorManager;
 import ladysnake.pandemonium.client.ClientAnchorManager;
 import ladysnake.pandemonium.common.entity.PandemoniumEntities;
+import ladysnake.pandemonium.common.entity.PlayerShellRegistry;
 import ladysnake.pandemonium.common.entity.WololoComponent;
 import ladysnake.pandemonium.common.impl.anchor.CommonAnchorManager;
 import ladysnake.pandemonium.common.network.ServerMessageHandling;
@@ -104,6 +105,7 @@ public class Pandemonium implements ModInitializer, EntityComponentInitializer,
             ? new ClientAnchorManager(world)
             : new CommonAnchorManager(world)
         );
+        registry.register(PlayerShellRegistry.KEY, world -> new PlayerShellRegistry());
     }
 
     private Pandemonium() {
@@ -64,6 +64,8 @@ public class ClientAnchorManager extends CommonAnchorManager {
             byte action = buf.readByte();
             if (action == CommonAnchorManager.ANCHOR_SYNC) {
                 updatePosition(buf, this.getOrCreate(id));
+            } else if (action == CommonAnchorManager.ANCHOR_MOVE) {
+                moveAnchor(buf, this.getAnchor(id));
             } else if (action == CommonAnchorManager.ANCHOR_REMOVE) {
                 removeAnchor(this.getAnchor(id));
             }
@@ -76,6 +78,19 @@ public class ClientAnchorManager extends CommonAnchorManager {
         }
     }
 
+    private void moveAnchor(PacketByteBuf buf, @Nullable FractureAnchor anchor) {
+        short dx = buf.readShort();
+        short dy = buf.readShort();
+        short dz = buf.readShort();
+        if (anchor != null) {
+            anchor.setPosition(
+                (CommonAnchorManager.quantize(anchor.getX()) + dx) / CommonAnchorManager.POSITION_SCALE,
+                (CommonAnchorManager.quantize(anchor.getY()) + dy) / CommonAnchorManager.POSITION_SCALE,
+                (CommonAnchorManager.quantize(anchor.getZ()) + dz) / CommonAnchorManager.POSITION_SCALE
+            );
+        }
+    }
+
     private void updatePosition(PacketByteBuf buf, FractureAnchor anchor) {
         double x = buf.readDouble();
         double y = buf.readDouble();
@@ -35,6 +35,7 @@
 package ladysnake.pandemonium.client.render.entity;
 
 import com.mojang.authlib.GameProfile;
+import ladysnake.pandemonium.client.RequiemSkinManager;
 import ladysnake.pandemonium.common.entity.PlayerShellEntity;
 import net.minecraft.client.network.OtherClientPlayerEntity;
 import net.minecraft.client.network.PlayerListEntry;
@@ -45,6 +46,7 @@ import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.packet.s2c.play.PlayerListS2CPacket;
+import net.minecraft.util.Identifier;
 import net.minecraft.world.GameMode;
 import org.jetbrains.annotations.Nullable;
 
@@ -94,6 +96,12 @@ public class ShellClientPlayerEntity extends OtherClientPlayerEntity {
         return this.shell.getVehicle();
     }
 
+    @Override
+    public Identifier getSkinTexture() {
+        // shared across every shell of the same player, instead of one skin request per shell
+        return RequiemSkinManager.get(this.getGameProfile());
+    }
+
     public void updateData() {
         this.copyPositionAndRotation(this.shell);
         this.hurtTime = this.shell.hurtTime;
@@ -40,6 +40,7 @@ import ladysnake.pandemonium.client.render.entity.ShellClientPlayerEntity;
 import ladysnake.pandemonium.common.PlayerSplitter;
 import ladysnake.pandemonium.mixin.common.entity.mob.LivingEntityAccessor;
 import ladysnake.pandemonium.mixin.common.entity.player.PlayerEntityAccessor;
+import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.remnant.AttritionFocus;
 import ladysnake.requiem.common.util.InventoryHelper;
 import net.fabricmc.api.EnvType;
@@ -65,6 +66,7 @@ import net.minecraft.item.Items;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.packet.s2c.play.PlayerPositionLookS2CPacket;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -77,6 +79,9 @@ import org.apiguardian.api.API;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.CheckForNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.UUID;
@@ -95,11 +100,18 @@ public class PlayerShellEntity extends MobEntity {
      */
     protected @Nullable SimpleInventory inventory;
     private @Nullable UUID playerUuid;
+    private @Nullable GameProfile cachedProfile;
+    private boolean profileDecoded;
     /**
-     * The full NBT data representing the player when this shell was created
+     * The full NBT data representing the player when this shell was created, if currently decoded
      */
     @Nullable
     protected CompoundTag playerNbt;
+    /**
+     * Compressed in-memory form of {@link #playerNbt}, kept instead of the decoded tag between accesses.
+     * The player data itself is never written to the shell's NBT.
+     */
+    private @Nullable byte[] packedPlayerNbt;
 
     @API(status = MAINTAINED)
     public PlayerShellEntity(EntityType<? extends PlayerShellEntity> entityType_1, World world_1) {
@@ -131,10 +143,17 @@ public class PlayerShellEntity extends MobEntity {
 
     @Override
     public void onTrackedDataSet(TrackedData<?> key) {
+        if (PLAYER_PROFILE.equals(key)) {
+            this.profileDecoded = false;
+        }
         if (this.world.isClient) {
             if (PLAYER_PROFILE.equals(key)) {
                 GameProfile profile = getGameProfile();
-                this.renderedPlayer = profile == null ? null : new ShellClientPlayerEntity(this, profile);
+                if (profile == null) {
+                    this.renderedPlayer = null;
+                } else if (this.renderedPlayer == null || !profile.equals(this.renderedPlayer.getGameProfile())) {
+                    this.renderedPlayer = new ShellClientPlayerEntity(this, profile);
+                }
             } else if (this.renderedPlayer != null) {
                 if (LivingEntityAccessor.getStuckArrowCountTrackedData().equals(key)) {
                     this.renderedPlayer.setStuckArrowCount(this.getStuckArrowCount());
@@ -146,10 +165,16 @@ public class PlayerShellEntity extends MobEntity {
         super.onTrackedDataSet(key);
     }
 
+    /**
+     * @return the profile of the player who left this shell, decoded once per change of {@link #PLAYER_PROFILE}
+     */
     @Nullable
     public GameProfile getGameProfile() {
-        CompoundTag tag = this.getDataTracker().get(PLAYER_PROFILE);
-        return NbtHelper.toGameProfile(tag);
+        if (!this.profileDecoded) {
+            this.cachedProfile = NbtHelper.toGameProfile(this.getDataTracker().get(PLAYER_PROFILE));
+            this.profileDecoded = true;
+        }
+        return this.cachedProfile;
     }
 
     public void setPlayerProfile(@CheckForNull GameProfile profile) {
@@ -208,18 +233,53 @@ public class PlayerShellEntity extends MobEntity {
 
     public CompoundTag getPlayerNbt() {
         if (this.playerNbt == null) {
-            this.playerNbt = new CompoundTag();
+            CompoundTag unpacked = this.unpackPlayerNbt();
+            this.playerNbt = unpacked == null ? new CompoundTag() : unpacked;
         }
 
         return this.playerNbt;
     }
 
+    private @Nullable CompoundTag unpackPlayerNbt() {
+        if (this.playerNbt != null) {
+            return this.playerNbt;
+        } else if (this.packedPlayerNbt != null) {
+            try {
+                return NbtIo.readCompressed(new ByteArrayInputStream(this.packedPlayerNbt));
+            } catch (IOException e) {
+                Requiem.LOGGER.error("[Pandemonium] Failed to decode player data stored in {}", this, e);
+                this.packedPlayerNbt = null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compresses the decoded player data, if any, and releases the decoded tag
+     */
+    private void packPlayerNbt() {
+        if (this.playerNbt != null && this.playerNbt.isEmpty()) {
+            // placeholder created by getPlayerNbt, nothing worth keeping
+            this.playerNbt = null;
+        } else if (this.playerNbt != null) {
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                NbtIo.writeCompressed(this.playerNbt, out);
+                this.packedPlayerNbt = out.toByteArray();
+                this.playerNbt = null;
+            } catch (IOException e) {
+                Requiem.LOGGER.error("[Pandemonium] Failed to encode player data stored in {}", this, e);
+            }
+        }
+    }
+
     public void restorePlayerData(ServerPlayerEntity possessor) {
         // Note: the teleport request must be before deserialization, as it only encodes the required relative movement
         possessor.networkHandler.teleportRequest(this.getX(), this.getY(), this.getZ(), this.yaw, this.pitch, EnumSet.allOf(PlayerPositionLookS2CPacket.Flag.class));
         // restore the player to their previous state
-        if (this.playerNbt != null) {
-            possessor.fromTag(this.playerNbt);
+        CompoundTag playerNbt = this.unpackPlayerNbt();
+        if (playerNbt != null) {
+            possessor.fromTag(playerNbt);
         }
         // override common data that may have been altered during this shell's existence
         possessor.inventory.clear();
@@ -235,6 +295,7 @@ public class PlayerShellEntity extends MobEntity {
         // Save the complete representation of the player
         performNbtCopy(respawnNbt, this);
         this.playerNbt = respawnNbt;
+        this.packedPlayerNbt = null;
 
         // Transfer inventory
         InventoryHelper.transferEquipment(player, this);
@@ -448,6 +509,8 @@ public class PlayerShellEntity extends MobEntity {
 
         if (tag.contains("PlayerNbt")) {
             this.playerNbt = tag.getCompound("PlayerNbt");
+            this.packedPlayerNbt = null;
+            this.packPlayerNbt();
         }
 
         if (tag.contains("Player")) {
@@ -488,6 +551,8 @@ public class PlayerShellEntity extends MobEntity {
             compound.put("Items", items);
             compound.putInt("InvSize", this.inventory.size());
         }
+        // Only release the decoded copy, player data is not part of the shell's saved data
+        this.packPlayerNbt();
         if (this.playerUuid != null) {
             compound.putUuid("Player", this.playerUuid);
         }
@@ -0,0 +1,100 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.pandemonium.common.entity;
+
+import dev.onyxstudios.cca.api.v3.component.ComponentKey;
+import dev.onyxstudios.cca.api.v3.component.ComponentRegistry;
+import dev.onyxstudios.cca.api.v3.component.TransientComponent;
+import ladysnake.pandemonium.Pandemonium;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.TargetPredicate;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of every {@link PlayerShellEntity} loaded in a world,
+ * so that AI target searches do not need to scan the world's entities for them.
+ */
+public final class PlayerShellRegistry implements TransientComponent {
+    public static final ComponentKey<PlayerShellRegistry> KEY = ComponentRegistry.getOrCreate(Pandemonium.id("shell_registry"), PlayerShellRegistry.class);
+
+    public static PlayerShellRegistry get(World world) {
+        return KEY.get(world);
+    }
+
+    private final List<PlayerShellEntity> shells = new ArrayList<>();
+
+    public void onShellLoaded(PlayerShellEntity shell) {
+        if (!this.shells.contains(shell)) {
+            this.shells.add(shell);
+        }
+    }
+
+    public void onShellUnloaded(PlayerShellEntity shell) {
+        this.shells.remove(shell);
+    }
+
+    public boolean isEmpty() {
+        return this.shells.isEmpty();
+    }
+
+    /**
+     * Finds the closest shell matching {@code predicate} within {@code box}.
+     *
+     * <p>This is equivalent to {@link World#getClosestEntity(Class, TargetPredicate, LivingEntity, double, double, double, Box)},
+     * but runs in O(shells) instead of going through every entity section in the box.
+     */
+    public @Nullable PlayerShellEntity getClosestShell(TargetPredicate predicate, @Nullable LivingEntity searcher, double x, double y, double z, Box box) {
+        PlayerShellEntity closest = null;
+        double closestDistance = -1.0;
+
+        for (int i = 0, size = this.shells.size(); i < size; i++) {
+            PlayerShellEntity shell = this.shells.get(i);
+            if (shell.getBoundingBox().intersects(box) && predicate.test(searcher, shell)) {
+                double distance = shell.squaredDistanceTo(x, y, z);
+                if (closestDistance == -1.0 || distance < closestDistance) {
+                    closestDistance = distance;
+                    closest = shell;
+                }
+            }
+        }
+
+        return closest;
+    }
+}
@@ -37,9 +37,15 @@ package ladysnake.pandemonium.common.impl.anchor;
 import dev.onyxstudios.cca.api.v3.component.sync.AutoSyncedComponent;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import ladysnake.pandemonium.api.anchor.FractureAnchor;
 import ladysnake.pandemonium.api.anchor.FractureAnchorFactory;
 import ladysnake.pandemonium.api.anchor.FractureAnchorManager;
+import ladysnake.pandemonium.common.remnant.PlayerBodyTracker;
 import ladysnake.requiem.Requiem;
 import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.nbt.CompoundTag;
@@ -47,20 +53,39 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedComponent {
     public static final byte ANCHOR_SYNC = 0;
     public static final byte ANCHOR_REMOVE = 1;
+    public static final byte ANCHOR_MOVE = 2;
+    /**
+     * Scale used to quantize positions in {@link #ANCHOR_MOVE} updates, same as vanilla entity movement packets
+     */
+    public static final double POSITION_SCALE = 4096.0;
+    /**
+     * How often anchors that did not change get checked against each player's interest
+     */
+    private static final int INTEREST_CHECK_INTERVAL = 20;
 
     private final Map<UUID, FractureAnchor> anchorsByUuid = new HashMap<>();
     private final Int2ObjectMap<FractureAnchor> anchorsById = new Int2ObjectOpenHashMap<>();
+    /* Server-side sync state */
+    private final IntSet dirtyAnchors = new IntOpenHashSet();
+    private final IntSet removedAnchors = new IntOpenHashSet();
+    private final Int2ObjectMap<long[]> syncedPositions = new Int2ObjectOpenHashMap<>();
+    private final Map<UUID, IntSet> knownAnchors = new HashMap<>();
     private final World world;
     private int nextId;
 
@@ -89,6 +114,25 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
         return nextId;
     }
 
+    /**
+     * Schedules a position update for the given anchor, to be sent at the end of the tick
+     */
+    public void markDirty(FractureAnchor anchor) {
+        if (!this.world.isClient) {
+            this.dirtyAnchors.add(anchor.getId());
+        }
+    }
+
+    /**
+     * Schedules the removal of the given anchor, to be sent at the end of the tick
+     */
+    public void markRemoved(FractureAnchor anchor) {
+        if (!this.world.isClient) {
+            this.dirtyAnchors.remove(anchor.getId());
+            this.removedAnchors.add(anchor.getId());
+        }
+    }
+
     @Override
     public Collection<FractureAnchor> getAnchors() {
         return this.anchorsById.values();
@@ -104,6 +148,108 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
             }
             return false;
         });
+
+        if (this.world instanceof ServerWorld) {
+            this.flushUpdates((ServerWorld) this.world, time % INTEREST_CHECK_INTERVAL == 0);
+        }
+    }
+
+    /**
+     * Sends every pending anchor update in a single packet per player.
+     *
+     * <p>Players only get told about anchors they are interested in, and anchors that
+     * they already know about only get sent quantized position deltas.
+     *
+     * @param checkInterest if {@code true}, all anchors get checked against the players' interest,
+     *                      otherwise only the anchors that changed this tick do
+     */
+    private void flushUpdates(ServerWorld world, boolean checkInterest) {
+        if (checkInterest) {
+            this.knownAnchors.keySet().removeIf(uuid -> world.getPlayerByUuid(uuid) == null);
+        } else if (this.dirtyAnchors.isEmpty() && this.removedAnchors.isEmpty()) {
+            return;
+        }
+
+        Int2ObjectMap<long[]> newPositions = new Int2ObjectOpenHashMap<>(this.dirtyAnchors.size());
+        IntSet movable = new IntOpenHashSet();
+
+        for (IntIterator it = this.dirtyAnchors.iterator(); it.hasNext(); ) {
+            int id = it.nextInt();
+            FractureAnchor anchor = this.anchorsById.get(id);
+            if (anchor == null) continue;
+            long[] pos = quantize(anchor);
+            long[] synced = this.syncedPositions.get(id);
+            if (synced != null && fitsInShort(pos[0] - synced[0]) && fitsInShort(pos[1] - synced[1]) && fitsInShort(pos[2] - synced[2])) {
+                movable.add(id);
+            }
+            newPositions.put(id, pos);
+        }
+
+        int viewDistance = world.getServer().getPlayerManager().getViewDistance() * 16;
+        double maxDistanceSq = (double) viewDistance * viewDistance;
+        Map<ServerPlayerEntity, PlayerUpdates> updates = new IdentityHashMap<>();
+
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            IntSet known = this.knownAnchors.computeIfAbsent(player.getUuid(), uuid -> new IntOpenHashSet());
+            PlayerUpdates playerUpdates = new PlayerUpdates();
+            FractureAnchor ownAnchor = PlayerBodyTracker.get(player).getAnchor();
+
+            for (IntIterator it = this.removedAnchors.iterator(); it.hasNext(); ) {
+                int id = it.nextInt();
+                if (known.remove(id)) {
+                    playerUpdates.removed.add(id);
+                }
+            }
+
+            for (IntIterator it = (checkInterest ? this.anchorsById.keySet() : this.dirtyAnchors).iterator(); it.hasNext(); ) {
+                int id = it.nextInt();
+                FractureAnchor anchor = this.anchorsById.get(id);
+                if (anchor == null || anchor.isInvalid()) continue;
+
+                if (anchor == ownAnchor || isInRange(player, anchor, maxDistanceSq)) {
+                    if (known.add(id)) {
+                        playerUpdates.synced.add(id);
+                    } else if (this.dirtyAnchors.contains(id)) {
+                        (movable.contains(id) ? playerUpdates.moved : playerUpdates.synced).add(id);
+                    }
+                } else if (known.remove(id)) {
+                    playerUpdates.removed.add(id);
+                }
+            }
+
+            if (!playerUpdates.isEmpty()) {
+                updates.put(player, playerUpdates);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            FractureAnchorManager.KEY.sync(world, (buf, p) -> updates.get(p).writeToPacket(buf, this), updates::containsKey);
+        }
+
+        for (IntIterator it = this.removedAnchors.iterator(); it.hasNext(); ) {
+            this.syncedPositions.remove(it.nextInt());
+        }
+        this.syncedPositions.putAll(newPositions);
+        this.dirtyAnchors.clear();
+        this.removedAnchors.clear();
+    }
+
+    private static boolean isInRange(ServerPlayerEntity player, FractureAnchor anchor, double maxDistanceSq) {
+        double dx = anchor.getX() - player.getX();
+        double dz = anchor.getZ() - player.getZ();
+        return dx * dx + dz * dz <= maxDistanceSq;
+    }
+
+    private static long[] quantize(FractureAnchor anchor) {
+        return new long[] {quantize(anchor.getX()), quantize(anchor.getY()), quantize(anchor.getZ())};
+    }
+
+    public static long quantize(double coord) {
+        return MathHelper.lfloor(coord * POSITION_SCALE);
+    }
+
+    private static boolean fitsInShort(long delta) {
+        return delta >= Short.MIN_VALUE && delta <= Short.MAX_VALUE;
     }
 
     @Nullable
@@ -130,7 +276,25 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
 
     @Override
     public void writeSyncPacket(PacketByteBuf buf, ServerPlayerEntity recipient) {
-        writeToPacket(buf, this.getAnchors(), ANCHOR_SYNC);
+        // Full sync, the client starts from scratch
+        IntSet known = new IntOpenHashSet();
+        List<FractureAnchor> anchors = new ArrayList<>();
+        int viewDistance = recipient.server.getPlayerManager().getViewDistance() * 16;
+        double maxDistanceSq = (double) viewDistance * viewDistance;
+        FractureAnchor ownAnchor = PlayerBodyTracker.get(recipient).getAnchor();
+
+        for (FractureAnchor anchor : this.getAnchors()) {
+            if (!anchor.isInvalid() && (anchor == ownAnchor || isInRange(recipient, anchor, maxDistanceSq))) {
+                anchors.add(anchor);
+                // anchors with pending changes get sent again in full at the end of the tick
+                if (!this.dirtyAnchors.contains(anchor.getId())) {
+                    known.add(anchor.getId());
+                }
+            }
+        }
+
+        this.knownAnchors.put(recipient.getUuid(), known);
+        writeToPacket(buf, anchors, ANCHOR_SYNC);
     }
 
     public static void writeToPacket(PacketByteBuf buf, Collection<FractureAnchor> anchors, byte action) {
@@ -140,13 +304,17 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
             buf.writeByte(action);
 
             if (action == ANCHOR_SYNC) {
-                buf.writeDouble(anchor.getX());
-                buf.writeDouble(anchor.getY());
-                buf.writeDouble(anchor.getZ());
+                writePosition(buf, anchor);
             }
         }
     }
 
+    private static void writePosition(PacketByteBuf buf, FractureAnchor anchor) {
+        buf.writeDouble(anchor.getX());
+        buf.writeDouble(anchor.getY());
+        buf.writeDouble(anchor.getZ());
+    }
+
     @Override
     public void readFromNbt(CompoundTag tag) {
         if (!tag.contains("Anchors", NbtType.LIST)) {
@@ -173,4 +341,40 @@ public class CommonAnchorManager implements FractureAnchorManager, AutoSyncedCom
         }
         tag.put("Anchors", list);
     }
+
+    private static final class PlayerUpdates {
+        final IntList synced = new IntArrayList();
+        final IntList moved = new IntArrayList();
+        final IntList removed = new IntArrayList();
+
+        boolean isEmpty() {
+            return this.synced.isEmpty() && this.moved.isEmpty() && this.removed.isEmpty();
+        }
+
+        void writeToPacket(PacketByteBuf buf, CommonAnchorManager manager) {
+            buf.writeVarInt(this.synced.size() + this.moved.size() + this.removed.size());
+
+            for (IntIterator it = this.synced.iterator(); it.hasNext(); ) {
+                FractureAnchor anchor = manager.anchorsById.get(it.nextInt());
+                buf.writeVarInt(anchor.getId());
+                buf.writeByte(ANCHOR_SYNC);
+                writePosition(buf, anchor);
+            }
+
+            for (IntIterator it = this.moved.iterator(); it.hasNext(); ) {
+                FractureAnchor anchor = manager.anchorsById.get(it.nextInt());
+                long[] synced = manager.syncedPositions.get(anchor.getId());
+                buf.writeVarInt(anchor.getId());
+                buf.writeByte(ANCHOR_MOVE);
+                buf.writeShort((int) (quantize(anchor.getX()) - synced[0]));
+                buf.writeShort((int) (quantize(anchor.getY()) - synced[1]));
+                buf.writeShort((int) (quantize(anchor.getZ()) - synced[2]));
+            }
+
+            for (IntIterator it = this.removed.iterator(); it.hasNext(); ) {
+                buf.writeVarInt(it.nextInt());
+                buf.writeByte(ANCHOR_REMOVE);
+            }
+        }
+    }
 }
@@ -37,7 +37,6 @@ package ladysnake.pandemonium.common.impl.anchor;
 import ladysnake.pandemonium.api.anchor.FractureAnchorManager;
 import net.minecraft.nbt.CompoundTag;
 
-import java.util.Collections;
 import java.util.UUID;
 
 public class TrackedFractureAnchor extends InertFractureAnchor {
@@ -52,15 +51,17 @@ public class TrackedFractureAnchor extends InertFractureAnchor {
     @Override
     public void setPosition(double x, double y, double z) {
         super.setPosition(x, y, z);
-        FractureAnchorManager.KEY.sync(this.manager.getWorld(),
-            (buf, p) -> CommonAnchorManager.writeToPacket(buf, Collections.singleton(this), CommonAnchorManager.ANCHOR_SYNC));
+        if (this.manager instanceof CommonAnchorManager) {
+            ((CommonAnchorManager) this.manager).markDirty(this);
+        }
     }
 
     @Override
     public void invalidate() {
         super.invalidate();
-        FractureAnchorManager.KEY.sync(this.manager.getWorld(),
-            (buf, p) -> CommonAnchorManager.writeToPacket(buf, Collections.singleton(this), CommonAnchorManager.ANCHOR_REMOVE));
+        if (this.manager instanceof CommonAnchorManager) {
+            ((CommonAnchorManager) this.manager).markRemoved(this);
+        }
     }
 
     @Override
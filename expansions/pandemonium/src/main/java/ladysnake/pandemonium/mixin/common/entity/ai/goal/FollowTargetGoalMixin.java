@@ -34,7 +34,7 @@
  */
 package ladysnake.pandemonium.mixin.common.entity.ai.goal;
 
-import ladysnake.pandemonium.common.entity.PlayerShellEntity;
+import ladysnake.pandemonium.common.entity.PlayerShellRegistry;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.TargetPredicate;
 import net.minecraft.entity.ai.goal.FollowTargetGoal;
@@ -75,9 +75,11 @@ public abstract class FollowTargetGoalMixin extends TrackTargetGoal {
             )
     )
     private void addShellsAsTargets(CallbackInfo ci) {
-        if (this.targetEntity == null) {
-            // method_21727 = getClosestEntity
-            this.targetEntity = this.mob.world.getClosestEntity(PlayerShellEntity.class, this.targetPredicate, this.mob, this.mob.getX(), this.mob.getY() + (double)this.mob.getStandingEyeHeight(), this.mob.getZ(), this.getSearchBox(this.getFollowRange()));
+        if (this.targetEntity == null && !this.mob.world.isClient) {
+            PlayerShellRegistry shells = PlayerShellRegistry.get(this.mob.world);
+            if (!shells.isEmpty()) {
+                this.targetEntity = shells.getClosestShell(this.targetPredicate, this.mob, this.mob.getX(), this.mob.getY() + (double)this.mob.getStandingEyeHeight(), this.mob.getZ(), this.getSearchBox(this.getFollowRange()));
+            }
         }
     }
 }
@@ -39,6 +39,7 @@ import ladysnake.requiem.api.v1.annotation.AccessedThroughReflection;
 import ladysnake.requiem.client.network.ClientMessageHandler;
 import ladysnake.requiem.client.particle.CureParticle;
 import ladysnake.requiem.client.particle.GhostParticle;
+import ladysnake.requiem.client.render.DerivedRenderLayerCache;
 import ladysnake.requiem.client.render.entity.CuredPiglinEntityRenderer;
 import ladysnake.requiem.client.render.entity.CuredVillagerEntityRenderer;
 import ladysnake.requiem.common.enchantment.RequiemEnchantments;
@@ -163,6 +164,7 @@ public final class RequiemClient implements ClientModInitializer {
         this.shaderPicker.registerCallbacks();
         this.requiemFxRenderer.registerCallbacks();
         this.shadowPlayerFxRenderer.registerCallbacks();
+        DerivedRenderLayerCache.registerCallbacks();
         this.worldFreezeFxRenderer.registerCallbacks();
         this.listener.registerCallbacks();
         this.targetHandler.registerCallbacks();
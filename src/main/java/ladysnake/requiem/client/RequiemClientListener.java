@@ -118,6 +118,7 @@ public final class RequiemClientListener implements
 
     @Override
     public void onEndTick(MinecraftClient client) {
+        RequiemHudState.get().update(client.player);
         if (client.player != null && client.currentScreen == null) {
             if (DeathSuspender.get(client.player).isLifeTransient()) {
                 if (--timeBeforeDialogueGui == 0) {
@@ -36,6 +36,7 @@ package ladysnake.requiem.client;
 
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.client.render.DerivedRenderLayerCache;
 import ladysnake.satin.api.event.ShaderEffectRenderCallback;
 import ladysnake.satin.api.managed.ManagedFramebuffer;
 import ladysnake.satin.api.managed.ManagedShaderEffect;
@@ -65,6 +66,7 @@ public final class RequiemFx implements ShaderEffectRenderCallback, ClientTickEv
     private final ManagedShaderEffect spectreShader = ShaderEffectManager.getInstance().manage(SPECTRE_SHADER_ID);
     private final ManagedShaderEffect zoomShader = ShaderEffectManager.getInstance().manage(ZOOM_SHADER_ID);
     private final ManagedFramebuffer zoomFramebuffer = zoomShader.getTarget("zoom_focus");
+    private final DerivedRenderLayerCache zoomRenderLayers = new DerivedRenderLayerCache(base -> this.zoomFramebuffer.getRenderLayer(base));
     private float accentColorR;
     private float accentColorG;
     private float accentColorB;
@@ -185,7 +187,7 @@ public final class RequiemFx implements ShaderEffectRenderCallback, ClientTickEv
     }
 
     public RenderLayer getZoomFx(RenderLayer base) {
-        return this.zoomFramebuffer.getRenderLayer(base);
+        return this.zoomRenderLayers.get(base);
     }
 
 }
@@ -0,0 +1,116 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client;
+
+import ladysnake.requiem.api.v1.entity.InventoryLimiter;
+import ladysnake.requiem.api.v1.possession.Possessable;
+import ladysnake.requiem.api.v1.possession.PossessionComponent;
+import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Snapshot of the Requiem state that alters the vanilla HUD, taken once per client tick for the main player.
+ *
+ * <p>HUD rendering code, including other mods', should query this instead of looking up components every frame.
+ * Queries about a player other than the one in the snapshot, like a freshly respawned player, are answered directly.
+ */
+public final class RequiemHudState {
+    private static final RequiemHudState INSTANCE = new RequiemHudState();
+
+    public static RequiemHudState get() {
+        return INSTANCE;
+    }
+
+    private @Nullable PlayerEntity player;
+    private boolean incorporeal;
+    private boolean vagrant;
+    private @Nullable MobEntity possessedEntity;
+    private InventoryLimiter.HotbarAvailability hotbarAvailability = InventoryLimiter.HotbarAvailability.FULL;
+
+    private RequiemHudState() { }
+
+    void update(@Nullable PlayerEntity player) {
+        this.player = player;
+        if (player != null) {
+            RemnantComponent remnant = RemnantComponent.get(player);
+            this.incorporeal = remnant.isIncorporeal();
+            this.vagrant = remnant.isVagrant();
+            this.possessedEntity = PossessionComponent.get(player).getPossessedEntity();
+            this.hotbarAvailability = InventoryLimiter.KEY.get(player).getHotbarAvailability();
+        } else {
+            this.possessedEntity = null;
+        }
+    }
+
+    private boolean isSnapshotOf(PlayerEntity player) {
+        return player == this.player;
+    }
+
+    public boolean isIncorporeal(PlayerEntity player) {
+        return this.isSnapshotOf(player) ? this.incorporeal : RemnantComponent.get(player).isIncorporeal();
+    }
+
+    public boolean isVagrant(PlayerEntity player) {
+        return this.isSnapshotOf(player) ? this.vagrant : RemnantComponent.get(player).isVagrant();
+    }
+
+    public @Nullable MobEntity getPossessedEntity(PlayerEntity player) {
+        return this.isSnapshotOf(player) ? this.possessedEntity : PossessionComponent.get(player).getPossessedEntity();
+    }
+
+    public InventoryLimiter.HotbarAvailability getHotbarAvailability(PlayerEntity player) {
+        return this.isSnapshotOf(player) ? this.hotbarAvailability : InventoryLimiter.KEY.get(player).getHotbarAvailability();
+    }
+
+    /**
+     * @return {@code true} if the hunger bar is hidden because the player's current body does not eat
+     */
+    public boolean shouldHideFood(PlayerEntity player) {
+        if (!this.isVagrant(player)) return false;
+        Possessable possessed = (Possessable) this.getPossessedEntity(player);
+        return possessed == null || !possessed.isRegularEater();
+    }
+
+    /**
+     * @return {@code true} if the air bar is hidden because the player's current body does not breathe
+     */
+    public boolean shouldHideAir(PlayerEntity player) {
+        if (!this.isVagrant(player)) return false;
+        MobEntity possessed = this.getPossessedEntity(player);
+        return possessed == null || possessed.canBreatheInWater();
+    }
+}
@@ -50,6 +50,7 @@ import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
 
 public final class RequiemTargetHandler implements UpdateTargetedEntityCallback, CrosshairRenderCallback {
     private final MinecraftClient client = MinecraftClient.getInstance();
@@ -59,45 +60,61 @@ public final class RequiemTargetHandler implements UpdateTargetedEntityCallback,
         UpdateTargetedEntityCallback.EVENT.register(this);
     }
 
+    /* Cache key for the last targeting pass, targets only need to be updated when one of those changes */
+    private long lastUpdateTime = -1;
+    private @Nullable Vec3d lastStartPoint;
+    private @Nullable Vec3d lastRotationVec;
+    private @Nullable AbilityType[] lastAbilityTypes;
+
     @Override
     public void updateTargetedEntity(float tickDelta) {
-        if (this.client.player == null) return;
+        if (this.client.player == null || this.client.world == null) return;
         PlayerAbilityController abilityController = PlayerAbilityController.get(this.client.player);
 
         Entity entity = this.client.getCameraEntity();
         assert entity != null;
 
         AbilityType[] abilityTypes = abilityController.getSortedAbilities();
+        Vec3d startPoint = entity.getCameraPosVec(tickDelta);
+        Vec3d rotationVec = entity.getRotationVec(1.0F);
+        long time = this.client.world.getTime();
+
+        // Entities and blocks only change every tick, so the result is the same as long as the camera does not move
+        if (time == this.lastUpdateTime && abilityTypes == this.lastAbilityTypes && startPoint.equals(this.lastStartPoint) && rotationVec.equals(this.lastRotationVec)) {
+            return;
+        }
+
+        this.lastUpdateTime = time;
+        this.lastAbilityTypes = abilityTypes;
+        this.lastStartPoint = startPoint;
+        this.lastRotationVec = rotationVec;
+
         double maxRange = abilityController.getRange(abilityTypes[abilityTypes.length - 1]);
 
         HitResult blockResult = entity.raycast(maxRange, tickDelta, false);
-        Vec3d startPoint = entity.getCameraPosVec(tickDelta);
         double distanceToBlockSq = blockResult != null ? blockResult.getPos().squaredDistanceTo(startPoint) : Double.POSITIVE_INFINITY;
-        Vec3d rotationVec = entity.getRotationVec(1.0F);
 
         abilityController.clearTargets();
 
-        for (int i = 0; i < abilityTypes.length; i++) {
-            AbilityType k = abilityTypes[i];
-
-            double range = abilityController.getRange(k);
-            double effectiveRangeSq = Math.min(range * range, distanceToBlockSq);
-
-            Vec3d endPoint = startPoint.add(rotationVec.x * range, rotationVec.y * range, rotationVec.z * range);
-            Box box = entity.getBoundingBox().stretch(rotationVec.multiply(range)).expand(1.0D, 1.0D, 1.0D);
-            EntityHitResult entityHitResult = ProjectileUtil.raycast(
-                entity,
-                startPoint,
-                endPoint,
-                box,
-                ((GameRendererAccessor) client.gameRenderer)::requiem$isEligibleForTargeting,
-                effectiveRangeSq
-            );
-
-            if (entityHitResult != null) {
-                Entity hitEntity = entityHitResult.getEntity();
-                Vec3d hitPos = entityHitResult.getPos();
-                double distanceToHitSq = startPoint.squaredDistanceTo(hitPos);
+        // Single broad-phase pass at the maximum range, every ability then checks the closest hit against its own range
+        Vec3d endPoint = startPoint.add(rotationVec.x * maxRange, rotationVec.y * maxRange, rotationVec.z * maxRange);
+        Box box = entity.getBoundingBox().stretch(rotationVec.multiply(maxRange)).expand(1.0D, 1.0D, 1.0D);
+        EntityHitResult entityHitResult = ProjectileUtil.raycast(
+            entity,
+            startPoint,
+            endPoint,
+            box,
+            ((GameRendererAccessor) client.gameRenderer)::requiem$isEligibleForTargeting,
+            Math.min(maxRange * maxRange, distanceToBlockSq)
+        );
+
+        if (entityHitResult != null) {
+            Entity hitEntity = entityHitResult.getEntity();
+            double distanceToHitSq = startPoint.squaredDistanceTo(entityHitResult.getPos());
+
+            for (int i = 0; i < abilityTypes.length; i++) {
+                double range = abilityController.getRange(abilityTypes[i]);
+                double effectiveRangeSq = Math.min(range * range, distanceToBlockSq);
 
                 if (distanceToHitSq < effectiveRangeSq || blockResult == null) {
                     // Every target after this one must have a higher range, so they will target the same entity
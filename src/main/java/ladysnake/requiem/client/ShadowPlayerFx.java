@@ -38,6 +38,7 @@ import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.client.render.DerivedRenderLayerCache;
 import ladysnake.satin.api.event.EntitiesPreRenderCallback;
 import ladysnake.satin.api.event.ShaderEffectRenderCallback;
 import ladysnake.satin.api.managed.ManagedFramebuffer;
@@ -77,6 +78,7 @@ public final class ShadowPlayerFx implements EntitiesPreRenderCallback, ShaderEf
             RenderSystem.depthMask(true);
         }
     );
+    private final DerivedRenderLayerCache renderLayers = new DerivedRenderLayerCache(base -> RenderLayerHelper.copy(base, "requiem:shadow_players", builder -> builder.target(this.target)));
     private boolean renderedSoulPlayers;
 
     void registerCallbacks() {
@@ -129,6 +131,6 @@ public final class ShadowPlayerFx implements EntitiesPreRenderCallback, ShaderEf
     }
 
     public RenderLayer getRenderLayer(RenderLayer base) {
-        return RenderLayerHelper.copy(base, "requiem:shadow_players", builder -> builder.target(target));
+        return this.renderLayers.get(base);
     }
 }
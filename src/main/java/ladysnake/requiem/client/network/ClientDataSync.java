@@ -0,0 +1,156 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client.network;
+
+import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
+import ladysnake.requiem.common.network.DataSyncCache;
+import ladysnake.requiem.common.network.RequiemNetworking;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.thread.ThreadExecutor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+
+/**
+ * Receives {@link RequiemNetworking#DATA_SYNC} messages, decodes their payloads on worker threads,
+ * then applies every payload of a message at once on the main thread.
+ *
+ * <p>Each message is given a generation number, and only the data from the latest message received
+ * for a sub data manager gets applied, whatever order the decoding finishes in.
+ */
+public final class ClientDataSync {
+    private final ThreadExecutor<?> mainThread;
+    private final Executor workers;
+    private final AtomicInteger lastGeneration = new AtomicInteger();
+    /**
+     * Content hashes of the data last received for each sub data manager, whether it has been applied yet or not
+     */
+    private final Map<Identifier, Long> receivedHashes = new ConcurrentHashMap<>();
+    /**
+     * Generation of the message that carried the data last received for each sub data manager
+     */
+    private final Map<Identifier, Integer> receivedGenerations = new ConcurrentHashMap<>();
+
+    public ClientDataSync(ThreadExecutor<?> mainThread, Executor workers) {
+        this.mainThread = mainThread;
+        this.workers = workers;
+    }
+
+    /**
+     * Reads a sync message and schedules the decoding of its payloads. Must be called from the network thread.
+     */
+    public void receive(PacketByteBuf buf) {
+        Map<Identifier, SubDataManager<?>> managers = SubDataManagerHelper.getClientHelper().streamDataManagers().collect(Collectors.toMap(IdentifiableResourceReloadListener::getFabricId, Function.identity()));
+        int generation = this.lastGeneration.incrementAndGet();
+        int nbManagers = buf.readVarInt();
+        List<CompletableFuture<DecodedData<?>>> decoding = new ArrayList<>(nbManagers);
+
+        for (int i = 0; i < nbManagers; i++) {
+            Identifier id = buf.readIdentifier();
+            long hash = buf.readLong();
+            int size = buf.readVarInt();
+            byte[] compressed = buf.readByteArray();
+            SubDataManager<?> manager = Objects.requireNonNull(managers.get(id), "Unknown sub data manager " + id);
+            Long receivedHash = this.receivedHashes.get(id);
+            if (receivedHash != null && receivedHash == hash) {
+                // Same content as what we last received, which is either applied or about to be
+                Requiem.LOGGER.info("[Requiem] Data for {} is already up to date", id);
+                continue;
+            }
+            this.receivedHashes.put(id, hash);
+            this.receivedGenerations.put(id, generation);
+            Requiem.LOGGER.info("[Requiem] Received data for {}", id);
+            decoding.add(CompletableFuture.<DecodedData<?>>supplyAsync(() -> this.decode(manager, hash, size, compressed), this.workers));
+        }
+
+        if (!decoding.isEmpty()) {
+            CompletableFuture.allOf(decoding.toArray(new CompletableFuture<?>[0]))
+                .thenRunAsync(() -> this.applyAll(generation, decoding), this.mainThread);
+        }
+    }
+
+    private void applyAll(int generation, List<CompletableFuture<DecodedData<?>>> decoding) {
+        for (CompletableFuture<DecodedData<?>> future : decoding) {
+            DecodedData<?> data = future.join();
+            if (data == null) continue;
+
+            Identifier id = data.manager.getFabricId();
+            if (this.receivedGenerations.getOrDefault(id, generation) != generation) {
+                Requiem.LOGGER.info("[Requiem] Discarding outdated data for {}", id);
+                continue;
+            }
+            data.apply();
+        }
+    }
+
+    private <T> @Nullable DecodedData<T> decode(SubDataManager<T> manager, long hash, int size, byte[] compressed) {
+        try {
+            return new DecodedData<>(manager, manager.loadFromPacket(DataSyncCache.inflate(compressed, size)));
+        } catch (DataFormatException | RuntimeException e) {
+            Requiem.LOGGER.error("[Requiem] Failed to decode data for {}", manager.getFabricId(), e);
+            // Let the server send the same content again
+            this.receivedHashes.remove(manager.getFabricId(), hash);
+            return null;
+        }
+    }
+
+    private static final class DecodedData<T> {
+        final SubDataManager<T> manager;
+        final T data;
+
+        DecodedData(SubDataManager<T> manager, T data) {
+            this.manager = manager;
+            this.data = data;
+        }
+
+        void apply() {
+            this.manager.apply(this.data);
+        }
+    }
+}
@@ -34,38 +34,28 @@
  */
 package ladysnake.requiem.client.network;
 
-import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.remnant.RemnantType;
-import ladysnake.requiem.api.v1.util.SubDataManager;
-import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
 import ladysnake.requiem.client.RequiemClient;
 import ladysnake.requiem.common.particle.RequiemParticleTypes;
 import ladysnake.requiem.common.remnant.RemnantTypes;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.network.PacketByteBuf;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
-import net.minecraft.util.Identifier;
-import net.minecraft.util.thread.ThreadExecutor;
+import net.minecraft.util.Util;
 import net.minecraft.world.World;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
 import static ladysnake.requiem.common.network.RequiemNetworking.*;
 
 public class ClientMessageHandler {
     private final MinecraftClient mc = MinecraftClient.getInstance();
     private final RequiemClient rc;
+    private final ClientDataSync dataSync = new ClientDataSync(this.mc, Util.getMainWorkerExecutor());
 
     public ClientMessageHandler(RequiemClient requiemClient) {
         this.rc = requiemClient;
@@ -91,18 +81,7 @@ public class ClientMessageHandler {
                 }
             });
         }));
-        ClientPlayNetworking.registerGlobalReceiver(DATA_SYNC, (client, handler, buf, responseSender) -> {
-            // We intentionally do not use the context's task queue directly
-            // First, we make each sub data manager process its data, then we apply it synchronously with the task queue
-            Map<Identifier, SubDataManager<?>> map = SubDataManagerHelper.getClientHelper().streamDataManagers().collect(Collectors.toMap(IdentifiableResourceReloadListener::getFabricId, Function.identity()));
-            int nbManagers = buf.readVarInt();
-            for (int i = 0; i < nbManagers; i++) {
-                Identifier id = buf.readIdentifier();
-                SubDataManager<?> manager = Objects.requireNonNull(map.get(id), "Unknown sub data manager " + id);
-                Requiem.LOGGER.info("[Requiem] Received data for {}", manager.getFabricId());
-                syncSubDataManager(buf, manager, client);
-            }
-        });
+        ClientPlayNetworking.registerGlobalReceiver(DATA_SYNC, (client, handler, buf, responseSender) -> this.dataSync.receive(buf));
         ClientPlayNetworking.registerGlobalReceiver(ETHEREAL_ANIMATION, (client, handler, buf, responseSender) -> client.execute(() -> {
             MinecraftClient mc = this.mc;
             assert mc.player != null;
@@ -138,9 +117,4 @@ public class ClientMessageHandler {
             });
         });
     }
-
-    private static <T> void syncSubDataManager(PacketByteBuf buffer, SubDataManager<T> subManager, ThreadExecutor<?> taskQueue) {
-        T data = subManager.loadFromPacket(buffer);
-        taskQueue.execute(() -> subManager.apply(data));
-    }
  }
@@ -0,0 +1,92 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.client.render;
+
+import ladysnake.requiem.Requiem;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes render layers derived from a base layer, so that every frame reuses the same derived instance
+ * and vertex consumers can keep batching by layer.
+ *
+ * <p>Base layers are weakly referenced, and every cache is cleared when client resources are reloaded.
+ * Caches must only be used from the render thread.
+ */
+public final class DerivedRenderLayerCache {
+    private static final Set<DerivedRenderLayerCache> CACHES = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final Map<RenderLayer, RenderLayer> derivedLayers = new WeakHashMap<>();
+    private final Function<RenderLayer, RenderLayer> factory;
+
+    public DerivedRenderLayerCache(Function<RenderLayer, RenderLayer> factory) {
+        this.factory = factory;
+        CACHES.add(this);
+    }
+
+    public RenderLayer get(RenderLayer base) {
+        return this.derivedLayers.computeIfAbsent(base, this.factory);
+    }
+
+    public void invalidate() {
+        this.derivedLayers.clear();
+    }
+
+    public static void registerCallbacks() {
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return Requiem.id("derived_render_layers");
+            }
+
+            @Override
+            public void apply(ResourceManager manager) {
+                for (DerivedRenderLayerCache cache : CACHES) {
+                    cache.invalidate();
+                }
+            }
+        });
+    }
+}
@@ -34,11 +34,13 @@
  */
 package ladysnake.requiem.client.render;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.render.*;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 
 public class RequiemVertexConsumerProvider implements VertexConsumerProvider {
     private final Immediate parent;
@@ -49,6 +51,10 @@ public class RequiemVertexConsumerProvider implements VertexConsumerProvider {
     private int alpha = 255;
     @Nullable
     private RenderLayer secondaryLayer;
+    /**
+     * Wrappers reused for every {@link #getBuffer(RenderLayer)} call with the same layer
+     */
+    private final Map<RenderLayer, EffectVertexConsumer> pooledConsumers = new Reference2ObjectOpenHashMap<>();
 
     public RequiemVertexConsumerProvider(Immediate immediate) {
         this.parent = immediate;
@@ -59,8 +65,8 @@ public class RequiemVertexConsumerProvider implements VertexConsumerProvider {
         VertexConsumer parentBuffer = this.parent.getBuffer(renderLayer);
         if (secondaryLayer != null) {
             VertexConsumer effectBuffer = this.plainDrawer.getBuffer(this.secondaryLayer);
-            FixedVertexConsumer fixedEffectBuffer = new FixedVertexConsumer(effectBuffer, this.red, this.green, this.blue, this.alpha);
-            return VertexConsumers.dual(fixedEffectBuffer, parentBuffer);
+            EffectVertexConsumer consumer = this.pooledConsumers.computeIfAbsent(renderLayer, l -> new EffectVertexConsumer());
+            return consumer.reset(effectBuffer, parentBuffer, this.red, this.green, this.blue, this.alpha);
         }
         return parentBuffer;
     }
@@ -80,16 +86,86 @@ public class RequiemVertexConsumerProvider implements VertexConsumerProvider {
         this.secondaryLayer = layer;
     }
 
+    /**
+     * Equivalent to {@link VertexConsumers#dual(VertexConsumer, VertexConsumer)} with a {@link FixedVertexConsumer}
+     * as the first consumer, but reusable across calls
+     */
+    @Environment(EnvType.CLIENT)
+    static class EffectVertexConsumer implements VertexConsumer {
+        private final FixedVertexConsumer effect = new FixedVertexConsumer();
+        private VertexConsumer parent;
+
+        EffectVertexConsumer reset(VertexConsumer effectBuffer, VertexConsumer parent, int red, int green, int blue, int alpha) {
+            this.effect.reset(effectBuffer, red, green, blue, alpha);
+            this.parent = parent;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer vertex(double x, double y, double z) {
+            this.effect.vertex(x, y, z);
+            this.parent.vertex(x, y, z);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            this.effect.color(red, green, blue, alpha);
+            this.parent.color(red, green, blue, alpha);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            this.effect.texture(u, v);
+            this.parent.texture(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            this.effect.overlay(u, v);
+            this.parent.overlay(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            this.effect.light(u, v);
+            this.parent.light(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            this.effect.normal(x, y, z);
+            this.parent.normal(x, y, z);
+            return this;
+        }
+
+        @Override
+        public void vertex(float x, float y, float z, float red, float green, float blue, float alpha, float u, float v, int overlay, int light, float normalX, float normalY, float normalZ) {
+            this.effect.vertex(x, y, z, red, green, blue, alpha, u, v, overlay, light, normalX, normalY, normalZ);
+            this.parent.vertex(x, y, z, red, green, blue, alpha, u, v, overlay, light, normalX, normalY, normalZ);
+        }
+
+        @Override
+        public void next() {
+            this.effect.next();
+            this.parent.next();
+        }
+    }
+
     @Environment(EnvType.CLIENT)
     static class FixedVertexConsumer extends FixedColorVertexConsumer {
-        private final VertexConsumer delegate;
+        private VertexConsumer delegate;
         private double x;
         private double y;
         private double z;
         private float u;
         private float v;
 
-        private FixedVertexConsumer(VertexConsumer delegate, int red, int green, int blue, int alpha) {
+        void reset(VertexConsumer delegate, int red, int green, int blue, int alpha) {
             this.delegate = delegate;
             super.fixedColor(red, green, blue, alpha);
         }
@@ -40,7 +40,6 @@ import net.minecraft.advancement.criterion.AbstractCriterion;
 import net.minecraft.advancement.criterion.AbstractCriterionConditions;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.damage.DamageSource;
-import net.minecraft.loot.context.LootContext;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateDeserializer;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateSerializer;
 import net.minecraft.predicate.entity.DamageSourcePredicate;
@@ -70,7 +69,8 @@ public class OnDeathAfterPossessionCriterion extends AbstractCriterion<OnDeathAf
     }
 
     public void handle(ServerPlayerEntity player, Entity entity, DamageSource deathCause) {
-        this.test(player, (conditions) -> conditions.test(player, entity, deathCause));
+        LazyEntityLootContext lootContext = new LazyEntityLootContext(player, entity);
+        this.test(player, (conditions) -> conditions.test(player, entity, deathCause, lootContext));
     }
 
     @Override
@@ -91,11 +91,10 @@ public class OnDeathAfterPossessionCriterion extends AbstractCriterion<OnDeathAf
             this.seppukku = seppukku;
         }
 
-        public boolean test(ServerPlayerEntity player, Entity entity, DamageSource killingBlow) {
-            LootContext lootContext = EntityPredicate.createAdvancementEntityLootContext(player, entity);
+        boolean test(ServerPlayerEntity player, Entity entity, DamageSource killingBlow, LazyEntityLootContext lootContext) {
             return this.killingBlow.test(player, killingBlow)
-                && this.entity.test(lootContext)
-                && (seppukku == null || seppukku == (killingBlow.getAttacker() == entity));
+                && (seppukku == null || seppukku == (killingBlow.getAttacker() == entity))
+                && lootContext.test(this.entity);
         }
 
         public JsonObject toJson(AdvancementEntityPredicateSerializer predicateSerializer) {
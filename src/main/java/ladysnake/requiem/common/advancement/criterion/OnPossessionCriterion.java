@@ -38,7 +38,6 @@ import com.google.gson.JsonObject;
 import net.minecraft.advancement.criterion.AbstractCriterion;
 import net.minecraft.advancement.criterion.AbstractCriterionConditions;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.loot.context.LootContext;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateDeserializer;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateSerializer;
 import net.minecraft.predicate.entity.EntityPredicate;
@@ -58,7 +57,7 @@ public class OnPossessionCriterion extends AbstractCriterion<OnPossessionCriteri
     }
 
     public void handle(ServerPlayerEntity possessor, LivingEntity possessed) {
-        LootContext lootContext = EntityPredicate.createAdvancementEntityLootContext(possessor, possessed);
+        LazyEntityLootContext lootContext = new LazyEntityLootContext(possessor, possessed);
         this.test(possessor, (conditions) -> conditions.test(lootContext));
     }
 
@@ -75,8 +74,8 @@ public class OnPossessionCriterion extends AbstractCriterion<OnPossessionCriteri
             this.predicate = predicate;
         }
 
-        public boolean test(LootContext ctx) {
-            return this.predicate.test(ctx);
+        boolean test(LazyEntityLootContext ctx) {
+            return ctx.test(this.predicate);
         }
 
         @Override
@@ -39,7 +39,6 @@ import net.minecraft.advancement.criterion.AbstractCriterion;
 import net.minecraft.advancement.criterion.AbstractCriterionConditions;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.damage.DamageSource;
-import net.minecraft.loot.context.LootContext;
 import net.minecraft.predicate.DamagePredicate;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateDeserializer;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateSerializer;
@@ -66,7 +65,9 @@ public class PossessedHitEntityCriterion extends AbstractCriterion<PossessedHitE
     }
 
     public void handle(ServerPlayerEntity player, Entity possessed, Entity entity, DamageSource source, float dealt, float taken, boolean blocked) {
-        this.test(player, (conditions) -> conditions.test(player, source, dealt, taken, blocked, possessed, entity));
+        LazyEntityLootContext possessedCtx = new LazyEntityLootContext(player, possessed);
+        LazyEntityLootContext targetCtx = new LazyEntityLootContext(player, entity);
+        this.test(player, (conditions) -> conditions.test(player, source, dealt, taken, blocked, possessedCtx, targetCtx));
     }
 
     @Override
@@ -87,13 +88,10 @@ public class PossessedHitEntityCriterion extends AbstractCriterion<PossessedHitE
             this.entity = entity;
         }
 
-        public boolean test(ServerPlayerEntity player, DamageSource source, float dealt, float taken, boolean blocked, Entity possessed, Entity target) {
-            if (this.damage.test(player, source, dealt, taken, blocked)) {
-                LootContext possessedCtx = EntityPredicate.createAdvancementEntityLootContext(player, possessed);
-                LootContext targetCtx = EntityPredicate.createAdvancementEntityLootContext(player, target);
-                return this.possessed.test(possessedCtx) && this.entity.test(targetCtx);
-            }
-            return false;
+        boolean test(ServerPlayerEntity player, DamageSource source, float dealt, float taken, boolean blocked, LazyEntityLootContext possessedCtx, LazyEntityLootContext targetCtx) {
+            return this.damage.test(player, source, dealt, taken, blocked)
+                && possessedCtx.test(this.possessed)
+                && targetCtx.test(this.entity);
         }
 
         public JsonObject toJson(AdvancementEntityPredicateSerializer predicateSerializer) {
@@ -39,7 +39,6 @@ import com.google.gson.JsonObject;
 import net.minecraft.advancement.criterion.AbstractCriterion;
 import net.minecraft.advancement.criterion.AbstractCriterionConditions;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.loot.context.LootContext;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateDeserializer;
 import net.minecraft.predicate.entity.AdvancementEntityPredicateSerializer;
 import net.minecraft.predicate.entity.EntityPredicate;
@@ -68,7 +67,9 @@ public class TransformedPossessedCriterion extends AbstractCriterion<Transformed
     }
 
     public void handle(ServerPlayerEntity player, LivingEntity before, LivingEntity after, boolean cure) {
-        this.test(player, (conditions) -> conditions.test(player, before, after, cure));
+        LazyEntityLootContext beforeCtx = new LazyEntityLootContext(player, before);
+        LazyEntityLootContext afterCtx = new LazyEntityLootContext(player, after);
+        this.test(player, (conditions) -> conditions.test(beforeCtx, afterCtx, cure));
     }
 
     @Override
@@ -89,10 +90,8 @@ public class TransformedPossessedCriterion extends AbstractCriterion<Transformed
             this.cure = cure;
         }
 
-        public boolean test(ServerPlayerEntity player, LivingEntity before, LivingEntity after, boolean cure) {
-            LootContext beforeCtx = EntityPredicate.createAdvancementEntityLootContext(player, before);
-            LootContext afterCtx = EntityPredicate.createAdvancementEntityLootContext(player, after);
-            return this.before.test(beforeCtx) && this.after.test(afterCtx) && (this.cure == null || this.cure == cure);
+        boolean test(LazyEntityLootContext beforeCtx, LazyEntityLootContext afterCtx, boolean cure) {
+            return (this.cure == null || this.cure == cure) && beforeCtx.test(this.before) && afterCtx.test(this.after);
         }
 
         public JsonObject toJson(AdvancementEntityPredicateSerializer predicateSerializer) {
@@ -56,13 +56,23 @@ public abstract class AbilityBase<E extends LivingEntity> implements MobAbility<
         this.setCooldown(this.getCooldownTime());
     }
 
+    /**
+     * Sets the cooldown of this ability, and synchronizes it with the possessor.
+     *
+     * <p>Clients predict the countdown by themselves, so this should not be called to simply decrement the cooldown.
+     */
     public void setCooldown(int cooldown) {
         Preconditions.checkArgument(cooldown >= 0);
 
         if (this.cooldown != cooldown) {
-            this.cooldown = cooldown;
-
+            this.updateCooldown(cooldown);
             this.sync();
+        }
+    }
+
+    private void updateCooldown(int cooldown) {
+        if (this.cooldown != cooldown) {
+            this.cooldown = cooldown;
 
             if (cooldown == 0) {
                 this.onCooldownEnd();
@@ -101,8 +111,18 @@ public abstract class AbilityBase<E extends LivingEntity> implements MobAbility<
     public void update() {
         int cooldown = this.getCooldown();
 
-        if (cooldown > 0 && !this.owner.world.isClient) {
-            this.setCooldown(cooldown - 1);
+        if (cooldown > 0) {
+            // both sides count down, the server only syncs when the cooldown gets set or ends
+            if (this.owner.world.isClient) {
+                // the end of the cooldown and its side effects are only triggered by the server's sync
+                if (cooldown > 1) {
+                    this.cooldown = cooldown - 1;
+                }
+            } else if (cooldown == 1) {
+                this.setCooldown(0);
+            } else {
+                this.cooldown = cooldown - 1;
+            }
         }
     }
 
@@ -112,11 +132,19 @@ public abstract class AbilityBase<E extends LivingEntity> implements MobAbility<
 
     @Override
     public void writeToPacket(PacketByteBuf buf) {
+        buf.writeVarLong(this.owner.world.getTime());
         buf.writeVarInt(this.getCooldown());
     }
 
     @Override
     public void readFromPacket(PacketByteBuf buf) {
-        this.setCooldown(buf.readVarInt());
+        long sentAt = buf.readVarLong();
+        int cooldown = buf.readVarInt();
+        if (cooldown > 0) {
+            // compensate for latency, without predicting the end of the cooldown
+            long elapsed = Math.max(0, this.owner.world.getTime() - sentAt);
+            cooldown = (int) Math.max(1, cooldown - elapsed);
+        }
+        this.updateCooldown(cooldown);
     }
 }
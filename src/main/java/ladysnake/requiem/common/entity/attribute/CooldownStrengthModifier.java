@@ -38,8 +38,6 @@ import ladysnake.requiem.api.v1.possession.Possessable;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 
-import java.util.OptionalDouble;
-
 public class CooldownStrengthModifier implements NonDeterministicModifier {
     private final Possessable owner;
 
@@ -48,12 +46,12 @@ public class CooldownStrengthModifier implements NonDeterministicModifier {
     }
 
     @Override
-    public OptionalDouble apply(double strength) {
+    public double apply(double strength) {
         PlayerEntity possessor = this.owner.getPossessor();
         if (possessor != null) {
             double attackCharge = possessor.getAttackCooldownProgress(0.5f);
-            return OptionalDouble.of(strength * (0.2F + attackCharge * attackCharge * 0.8F));
+            return strength * (0.2F + attackCharge * attackCharge * 0.8F);
         }
-        return OptionalDouble.empty();
+        return NO_CHANGE;
     }
 }
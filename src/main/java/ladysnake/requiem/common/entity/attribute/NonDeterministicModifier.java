@@ -34,14 +34,41 @@
  */
 package ladysnake.requiem.common.entity.attribute;
 
-import java.util.OptionalDouble;
-import java.util.function.DoubleFunction;
+/**
+ * A modifier applied to the final value of an attribute, after every regular modifier.
+ *
+ * <p>This is called for every read of the attribute, and should therefore avoid allocating.
+ */
+@FunctionalInterface
+public interface NonDeterministicModifier {
+    /**
+     * Sentinel value returned by {@link #apply(double)} when a modifier leaves the attribute value untouched
+     */
+    double NO_CHANGE = Double.NaN;
 
-public interface NonDeterministicModifier extends DoubleFunction<OptionalDouble> {
-    @Override
-    OptionalDouble apply(double value);
+    /**
+     * @param value the current value of the attribute
+     * @return the new value of the attribute, or {@link #NO_CHANGE}
+     */
+    double apply(double value);
 
-    default NonDeterministicModifier andThen(NonDeterministicModifier after) {
-        return value -> after.apply(this.apply(value).orElse(value));
+    /**
+     * Applies every modifier in order, each one receiving the value returned by the previous one.
+     *
+     * @param modifiers the modifiers to apply
+     * @param value     the base value of the attribute
+     * @return the final value of the attribute, or {@link #NO_CHANGE} if no modifier changed it
+     */
+    static double applyAll(NonDeterministicModifier[] modifiers, double value) {
+        boolean changed = false;
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < modifiers.length; i++) {
+            double modified = modifiers[i].apply(value);
+            if (!Double.isNaN(modified)) {
+                value = modified;
+                changed = true;
+            }
+        }
+        return changed ? value : NO_CHANGE;
     }
 }
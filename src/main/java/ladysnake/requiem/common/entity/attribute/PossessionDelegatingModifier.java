@@ -39,8 +39,6 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.attribute.EntityAttribute;
 import net.minecraft.entity.attribute.EntityAttributeInstance;
 
-import java.util.OptionalDouble;
-
 public class PossessionDelegatingModifier implements NonDeterministicModifier {
     private final EntityAttribute attribute;
     private final PossessionComponent handler;
@@ -51,19 +49,23 @@ public class PossessionDelegatingModifier implements NonDeterministicModifier {
     }
 
     /**
-     * @return the attribute instance to which calls should be delegated
+     * @return the value of the possessed entity's attribute, or {@link #NO_CHANGE} if there is none
      */
     @Override
-    public OptionalDouble apply(double value) {
+    public double apply(double value) {
+        if (!handler.isPossessing()) {
+            return NO_CHANGE;
+        }
+
         LivingEntity possessed = handler.getPossessedEntity();
 
         if (possessed != null) {
             EntityAttributeInstance ret = possessed.getAttributeInstance(this.attribute);
             // the attribute can be null if it is not registered in the possessed entity
             if (ret != null) {
-                return OptionalDouble.of(ret.getValue());
+                return ret.getValue();
             }
         }
-        return OptionalDouble.empty();
+        return NO_CHANGE;
     }
 }
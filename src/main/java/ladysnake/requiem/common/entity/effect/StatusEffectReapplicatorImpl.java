@@ -35,18 +35,16 @@
 package ladysnake.requiem.common.entity.effect;
 
 import ladysnake.requiem.api.v1.internal.StatusEffectReapplicator;
-import ladysnake.requiem.api.v1.remnant.StickyStatusEffect;
+import ladysnake.requiem.common.entity.internal.FlaggedStatusEffect;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.nbt.CompoundTag;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.ArrayDeque;
 
 public class StatusEffectReapplicatorImpl implements StatusEffectReapplicator {
-    private final Collection<StatusEffectInstance> reappliedEffects = new ArrayList<>();
+    private final ArrayDeque<StatusEffectInstance> reappliedEffects = new ArrayDeque<>();
     private final LivingEntity holder;
 
     public StatusEffectReapplicatorImpl(LivingEntity holder) {
@@ -55,7 +53,7 @@ public class StatusEffectReapplicatorImpl implements StatusEffectReapplicator {
 
     @Override
     public void onStatusEffectRemoved(StatusEffectInstance effect) {
-        if (!this.holder.world.isClient && StickyStatusEffect.shouldStick(effect.getEffectType(), this.holder)) {
+        if (!this.holder.world.isClient && FlaggedStatusEffect.shouldStick(effect.getEffectType(), this.holder)) {
             reappliedEffects.add(new StatusEffectInstance(effect));
         }
     }
@@ -72,9 +70,9 @@ public class StatusEffectReapplicatorImpl implements StatusEffectReapplicator {
 
     @Override
     public void serverTick() {
-        for (Iterator<StatusEffectInstance> iterator = reappliedEffects.iterator(); iterator.hasNext(); ) {
-            this.holder.addStatusEffect(iterator.next());
-            iterator.remove();
+        // Effects queued while reapplying wait for the next tick
+        for (int i = this.reappliedEffects.size(); i > 0; i--) {
+            this.holder.addStatusEffect(this.reappliedEffects.poll());
         }
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.entity.internal;
+
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * A server player that spawns its possessed entity back some time after logging in
+ */
+public interface PossessionResumingPlayer {
+    /**
+     * Schedules the possessed entity and its vehicles to be spawned back and possessed once their chunk is ready
+     *
+     * @param possessedRoot the serialized possessed root, as written in the player's data
+     */
+    void requiem_schedulePossessionResume(CompoundTag possessedRoot);
+
+    /**
+     * @return {@code true} if an entity scheduled by {@link #requiem_schedulePossessionResume(CompoundTag)} has not been spawned back yet
+     */
+    boolean requiem_isPossessionResumePending();
+
+    /**
+     * Spawns back and possesses the entity scheduled by {@link #requiem_schedulePossessionResume(CompoundTag)} right away,
+     * if it has not been already. Does nothing if no resume is pending.
+     */
+    void requiem_resumePendingPossession();
+}
@@ -55,11 +55,7 @@ public class DefaultedMobAbilityRegistry implements MobAbilityRegistry {
     @Override
     public <E extends MobEntity> MobAbilityConfig<? super E> getConfig(E entity) {
         EntityType<E> entityType = (EntityType<E>) entity.getType();
-        MobAbilityConfig<? super E> registered = getRegisteredConfig(entityType);
-        if (registered == null) {
-            return MobAbilityConfig.builder().build();
-        }
-        return registered;
+        return this.getConfig(entityType);
     }
 
     @Override
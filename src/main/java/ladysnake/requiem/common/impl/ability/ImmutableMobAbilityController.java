@@ -37,26 +37,56 @@ package ladysnake.requiem.common.impl.ability;
 import ladysnake.requiem.api.v1.entity.ability.*;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * A {@link MobAbilityController} with a fixed set of abilities.
+ *
+ * <p>The abilities are only created the first time they are actually needed (targeting, usage, sync),
+ * as most mobs will never get possessed and some abilities are fairly expensive to construct.
+ */
 public class ImmutableMobAbilityController<T extends LivingEntity> implements MobAbilityController {
-    private final List<MobAbility<? super T>> abilities;
-    private final IndirectAbility<? super T> indirectAttack;
-    private final IndirectAbility<? super T> indirectInteraction;
-    private final DirectAbility<? super T, ?> directAttack;
-    private final DirectAbility<? super T, ?> directInteraction;
+    private final T owner;
+    private @Nullable Supplier<? extends MobAbilityConfig<? super T>> config;
+    private List<MobAbility<? super T>> abilities = Collections.emptyList();
+    private IndirectAbility<? super T> indirectAttack;
+    private IndirectAbility<? super T> indirectInteraction;
+    private DirectAbility<? super T, ?> directAttack;
+    private DirectAbility<? super T, ?> directInteraction;
+
+    public static <E extends MobEntity> ImmutableMobAbilityController<E> forMob(E mob) {
+        return new ImmutableMobAbilityController<>(() -> MobAbilityRegistry.instance().getConfig(mob), mob);
+    }
 
     public ImmutableMobAbilityController(MobAbilityConfig<? super T> config, T owner) {
-        this.directAttack = config.getDirectAbility(owner, AbilityType.ATTACK);
-        this.directInteraction = config.getDirectAbility(owner, AbilityType.INTERACT);
-        this.indirectAttack = config.getIndirectAbility(owner, AbilityType.ATTACK);
-        this.indirectInteraction = config.getIndirectAbility(owner, AbilityType.INTERACT);
-        this.abilities = Arrays.asList(this.directAttack, this.directInteraction, this.indirectAttack, this.indirectInteraction);
+        this(() -> config, owner);
+    }
+
+    private ImmutableMobAbilityController(Supplier<? extends MobAbilityConfig<? super T>> config, T owner) {
+        this.config = config;
+        this.owner = owner;
+    }
+
+    private void ensureInitialized() {
+        Supplier<? extends MobAbilityConfig<? super T>> configSupplier = this.config;
+        if (configSupplier != null) {
+            MobAbilityConfig<? super T> config = configSupplier.get();
+            this.directAttack = config.getDirectAbility(this.owner, AbilityType.ATTACK);
+            this.directInteraction = config.getDirectAbility(this.owner, AbilityType.INTERACT);
+            this.indirectAttack = config.getIndirectAbility(this.owner, AbilityType.ATTACK);
+            this.indirectInteraction = config.getIndirectAbility(this.owner, AbilityType.INTERACT);
+            this.abilities = Arrays.asList(this.directAttack, this.directInteraction, this.indirectAttack, this.indirectInteraction);
+            this.config = null;
+        }
     }
 
     @Override
@@ -86,6 +116,7 @@ public class ImmutableMobAbilityController<T extends LivingEntity> implements Mo
 
     @Override
     public void writeSyncPacket(PacketByteBuf buf, ServerPlayerEntity recipient) {
+        this.ensureInitialized();
         for (MobAbility<? super T> ability : this.abilities) {
             ability.writeToPacket(buf);
         }
@@ -93,6 +124,7 @@ public class ImmutableMobAbilityController<T extends LivingEntity> implements Mo
 
     @Override
     public void applySyncPacket(PacketByteBuf buf) {
+        this.ensureInitialized();
         for (MobAbility<? super T> ability : this.abilities) {
             ability.readFromPacket(buf);
         }
@@ -100,6 +132,7 @@ public class ImmutableMobAbilityController<T extends LivingEntity> implements Mo
 
     @Override
     public void tick() {
+        // uninitialized abilities have no cooldown to update
         for (MobAbility<? super T> ability : this.abilities) {
             ability.update();
         }
@@ -127,6 +160,7 @@ public class ImmutableMobAbilityController<T extends LivingEntity> implements Mo
     }
 
     private DirectAbility<? super T, ?> getDirect(AbilityType type) {
+        this.ensureInitialized();
         switch (type) {
             case ATTACK:
                 return this.directAttack;
@@ -137,6 +171,7 @@ public class ImmutableMobAbilityController<T extends LivingEntity> implements Mo
     }
 
     private IndirectAbility<? super T> getIndirect(AbilityType type) {
+        this.ensureInitialized();
         switch (type) {
             case ATTACK:
                 return this.indirectAttack;
@@ -38,7 +38,7 @@ import ladysnake.requiem.api.v1.entity.InventoryLimiter;
 import ladysnake.requiem.api.v1.entity.InventoryPart;
 import ladysnake.requiem.api.v1.entity.InventoryShape;
 import ladysnake.requiem.api.v1.event.requiem.InventoryLockingChangeCallback;
-import ladysnake.requiem.api.v1.possession.PossessionComponent;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundTag;
 
@@ -51,6 +51,12 @@ public final class PlayerInventoryLimiter implements InventoryLimiter {
     private final PlayerEntity player;
     private final EnumSet<InventoryPart> lockedParts = EnumSet.allOf(InventoryPart.class);
     private boolean enabled;
+    /**
+     * Bitmasks of the player inventory slots covered by {@link #lockedParts}, recomputed when the latter change
+     */
+    private long lockedSlots;
+    private long invisibleSlots;
+    private boolean slotMasksDirty = true;
 
     public PlayerInventoryLimiter(PlayerEntity player) {
         this.player = player;
@@ -69,6 +75,7 @@ public final class PlayerInventoryLimiter implements InventoryLimiter {
     @Override
     public void lock(InventoryPart part) {
         if (this.lockedParts.add(part)) {
+            this.slotMasksDirty = true;
             InventoryLockingChangeCallback.EVENT.invoker().onInventoryLockingChange(this.player, part, true);
         }
     }
@@ -76,6 +83,7 @@ public final class PlayerInventoryLimiter implements InventoryLimiter {
     @Override
     public void unlock(InventoryPart part) {
         if (this.lockedParts.remove(part)) {
+            this.slotMasksDirty = true;
             InventoryLockingChangeCallback.EVENT.invoker().onInventoryLockingChange(this.player, part, false);
         }
     }
@@ -95,32 +103,62 @@ public final class PlayerInventoryLimiter implements InventoryLimiter {
     public boolean isSlotLocked(int index) {
         if (!isEnabled()) return false;
 
-        int mainSize = player.inventory.main.size();
+        this.updateSlotMasks();
+        return hasSlot(this.lockedSlots, index);
+    }
 
-        if (this.isLocked(InventoryPart.MAIN) && index > MAINHAND_SLOT && index < mainSize) {
-            return true;
+    @Override
+    public boolean isSlotInvisible(int playerSlot) {
+        if (this.player.currentScreenHandler != this.player.playerScreenHandler || this.getInventoryShape() == InventoryShape.NORMAL) {
+            return false;
         }
 
+        this.updateSlotMasks();
+        return hasSlot(this.invisibleSlots, playerSlot);
+    }
+
+    private void updateSlotMasks() {
+        if (!this.slotMasksDirty) return;
+
+        int mainSize = player.inventory.main.size();
         int armorSize = player.inventory.armor.size();
+        long locked = 0L;
+
+        if (this.lockedParts.contains(InventoryPart.MAIN)) {
+            locked |= slotRange(MAINHAND_SLOT + 1, mainSize);
+        }
+
+        if (this.lockedParts.contains(InventoryPart.ARMOR)) {
+            locked |= slotRange(mainSize, mainSize + armorSize);
+        }
 
-        if (this.isLocked(InventoryPart.ARMOR) && index >= mainSize && index < mainSize + armorSize) {
-            return true;
+        if (this.lockedParts.contains(InventoryPart.HANDS)) {
+            locked |= slotRange(MAINHAND_SLOT, MAINHAND_SLOT + 1) | slotRange(OFFHAND_SLOT, OFFHAND_SLOT + 1);
         }
 
-        return this.isLocked(InventoryPart.HANDS) && (index == MAINHAND_SLOT || index == OFFHAND_SLOT);
+        this.lockedSlots = locked;
+        // the main hand slot is hidden along with the rest of the main inventory
+        this.invisibleSlots = this.lockedParts.contains(InventoryPart.MAIN) ? locked | slotRange(MAINHAND_SLOT, MAINHAND_SLOT + 1) : locked;
+        this.slotMasksDirty = false;
     }
 
-    @Override
-    public boolean isSlotInvisible(int playerSlot) {
-        return this.player.currentScreenHandler == this.player.playerScreenHandler
-            && this.getInventoryShape() != InventoryShape.NORMAL
-            && (this.isSlotLocked(playerSlot) || (playerSlot == MAINHAND_SLOT && this.isMainInventoryLocked()));
+    /**
+     * @return a bitmask covering the slots from {@code from} (inclusive) to {@code to} (exclusive), ignoring slots beyond the 64th
+     */
+    private static long slotRange(int from, int to) {
+        to = Math.min(to, Long.SIZE);
+        if (from >= to) return 0L;
+        return (-1L >>> (Long.SIZE - (to - from))) << from;
+    }
+
+    private static boolean hasSlot(long slots, int index) {
+        return index >= 0 && index < Long.SIZE && (slots & (1L << index)) != 0;
     }
 
     @Override
     public InventoryShape getInventoryShape() {
         if (this.isEnabled()) {
-            if (PossessionComponent.get(this.player).isPossessing()) {
+            if (SoulStateEntity.isPossessing(this.player)) {
                 if (this.lockedParts.size() == InventoryPart.VALUES.size()) {
                     return InventoryShape.ALT_LARGE;
                 } else if (this.lockedParts.contains(InventoryPart.MAIN)) {
@@ -133,10 +171,6 @@ public final class PlayerInventoryLimiter implements InventoryLimiter {
         return InventoryShape.NORMAL;
     }
 
-    private boolean isMainInventoryLocked() {
-        return this.isEnabled() && this.lockedParts.contains(InventoryPart.MAIN);
-    }
-
     @Override
     public void readFromNbt(CompoundTag compoundTag) {
         if (compoundTag.contains("enabled")) {
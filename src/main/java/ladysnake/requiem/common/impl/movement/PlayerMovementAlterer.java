@@ -46,6 +46,7 @@ import ladysnake.requiem.api.v1.entity.movement.SwimMode;
 import ladysnake.requiem.api.v1.entity.movement.WalkMode;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import ladysnake.requiem.common.network.RequiemNetworking;
 import ladysnake.requiem.common.particle.RequiemParticleTypes;
 import ladysnake.requiem.common.sound.RequiemSoundEvents;
@@ -85,6 +86,15 @@ public class PlayerMovementAlterer implements MovementAlterer {
     private Vec3d lastVelocity = Vec3d.ZERO;
     private int ticksAgainstWall = 0;
     private boolean noClipping = false;
+    /**
+     * Whether the client last reported pushing against a wall, updated only on transitions
+     */
+    private boolean huggingWall = false;
+    /**
+     * Counter of the last wall hugging report, sent on the client and received on the server.
+     * It is neither synced nor saved: the client restarts from 0 whenever it gets a new player entity.
+     */
+    private int wallHugSequence = 0;
 
     private boolean underwaterJumpAscending;
     private double underwaterJumpStartY;
@@ -169,9 +179,9 @@ public class PlayerMovementAlterer implements MovementAlterer {
                     // 10.0 is a magic constant that corresponds to mostly blocked movement
                     if (movement.length() / adjusted.length() > 10.0 && this.player.getRotationVector().dotProduct(movement.normalize()) > 0.5) {
                         this.ticksAgainstWall++;
-                        RequiemNetworking.sendHugWallMessage(true);
+                        this.reportWallHugging(true);
                     } else if (this.ticksAgainstWall > 0) {
-                        RequiemNetworking.sendHugWallMessage(false);
+                        this.reportWallHugging(false);
                     }
                 } else if (this.noClipping && this.player.getRandom().nextFloat() > 0.8f) {
                     this.playPhaseEffects();
@@ -187,11 +197,51 @@ public class PlayerMovementAlterer implements MovementAlterer {
         if (this.ticksAgainstWall < 0) {
             this.ticksAgainstWall++;
         } else if (this.noClipping) {
-            this.noClipping = false;    // disable to check whether there really are blocks
+            this.setNoClipping(false);    // disable to check whether there really are blocks
             if (this.player.world.isSpaceEmpty(this.player)) {
-                RequiemNetworking.sendHugWallMessage(false);
+                this.reportWallHugging(false);
+            }
+            this.setNoClipping(true);
+        }
+        this.tick();
+    }
+
+    /**
+     * Tells the server when the player starts or stops pushing against a wall, the server keeps count of the ticks in between
+     */
+    @CheckEnv(Env.CLIENT)
+    private void reportWallHugging(boolean hugging) {
+        if (this.huggingWall != hugging) {
+            this.huggingWall = hugging;
+            RequiemNetworking.sendHugWallMessage(hugging, ++this.wallHugSequence);
+        }
+    }
+
+    /**
+     * Handles a wall hugging report sent by {@link #reportWallHugging(boolean)}.
+     * A report carrying the same counter as the last one is a duplicate and gets ignored.
+     * Any other counter is accepted, as the client's counter restarts after a dimension change or a respawn.
+     */
+    public void receiveWallHugging(boolean hugging, int sequence) {
+        if (sequence != this.wallHugSequence) {
+            this.wallHugSequence = sequence;
+            this.huggingWall = hugging;
+            if (!hugging) {
+                this.hugWall(false);
+            }
+        }
+    }
+
+    @Override
+    public void serverTick() {
+        if (this.huggingWall && !this.noClipping) {
+            if (this.config != null && this.config.canPhaseThroughWalls()) {
+                this.hugWall(true);
+            } else {
+                // The client disagrees about its ability to phase, correct it
+                this.huggingWall = false;
+                this.hugWall(false);
             }
-            this.noClipping = true;
         }
         this.tick();
     }
@@ -238,7 +288,7 @@ public class PlayerMovementAlterer implements MovementAlterer {
             this.ticksAgainstWall++;
 
             if (this.ticksAgainstWall > 60 && !this.noClipping) {
-                this.noClipping = true;
+                this.setNoClipping(true);
                 this.ticksAgainstWall = 0;
                 KEY.sync(this.player, (buf, player) -> writeToPacket(buf, SYNC_NO_CLIP), player -> shouldSyncWith(player, SYNC_NO_CLIP));
             } else if (this.ticksAgainstWall % 10 == 0) {
@@ -246,7 +296,7 @@ public class PlayerMovementAlterer implements MovementAlterer {
             }
         } else {
             this.ticksAgainstWall = 0;
-            this.noClipping = false;
+            this.setNoClipping(false);
             KEY.sync(this.player, (buf, player) -> writeToPacket(buf, SYNC_NO_CLIP), player -> shouldSyncWith(player, SYNC_NO_CLIP));
         }
     }
@@ -256,6 +306,14 @@ public class PlayerMovementAlterer implements MovementAlterer {
         return this.noClipping;
     }
 
+    /**
+     * Updates the phasing state, mirrored on the player for collision checks
+     */
+    private void setNoClipping(boolean noClipping) {
+        this.noClipping = noClipping;
+        ((SoulStateEntity) this.player).requiem_setSoulFlag(SoulStateEntity.NO_CLIPPING, noClipping);
+    }
+
     @Override
     public boolean shouldSyncWith(ServerPlayerEntity player) {
         return this.shouldSyncWith(player, 0);
@@ -287,8 +345,12 @@ public class PlayerMovementAlterer implements MovementAlterer {
     public void applySyncPacket(PacketByteBuf buf) {
         byte syncOp = buf.readByte();
         if (syncOp == SYNC_NO_CLIP) {
-            this.noClipping = buf.readBoolean();
+            this.setNoClipping(buf.readBoolean());
             this.ticksAgainstWall = this.noClipping ? -5 : 0;
+            if (!this.noClipping) {
+                // the server stopped counting, report again if we are still against a wall
+                this.huggingWall = false;
+            }
         } else if (syncOp == SYNC_PHASING_PARTICLES) {
             this.playPhaseEffects();
         }
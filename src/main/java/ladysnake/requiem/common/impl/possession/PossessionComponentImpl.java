@@ -34,6 +34,7 @@
  */
 package ladysnake.requiem.common.impl.possession;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.entity.MovementRegistry;
@@ -45,6 +46,10 @@ import ladysnake.requiem.api.v1.remnant.AttritionFocus;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.SoulbindingRegistry;
 import ladysnake.requiem.client.RequiemClient;
+import ladysnake.requiem.common.entity.attribute.NonDeterministicAttribute;
+import ladysnake.requiem.common.entity.attribute.PossessionDelegatingModifier;
+import ladysnake.requiem.common.entity.internal.PossessionResumingPlayer;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import ladysnake.requiem.common.impl.movement.SerializableMovementConfig;
 import ladysnake.requiem.common.network.RequiemNetworking;
 import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
@@ -55,6 +60,9 @@ import ladysnake.requiem.mixin.common.access.LivingEntityAccessor;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityPose;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.attribute.AttributeContainer;
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.mob.MobEntity;
@@ -67,16 +75,22 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Registry;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 public final class PossessionComponentImpl implements PossessionComponent {
     private final PlayerEntity player;
     @Nullable private MobEntity possessed;
     private int conversionTimer;
+    /**
+     * Attributes of the player for which a {@link PossessionDelegatingModifier} has been added
+     */
+    private final Set<EntityAttribute> delegatedAttributes = new ReferenceOpenHashSet<>();
 
     public PossessionComponentImpl(PlayerEntity player) {
         this.player = player;
@@ -91,6 +105,19 @@ public final class PossessionComponentImpl implements PossessionComponent {
      */
     @Override
     public boolean startPossessing(final MobEntity host, boolean simulate) {
+        if (this.player instanceof PossessionResumingPlayer) {
+            PossessionResumingPlayer resumingPlayer = (PossessionResumingPlayer) this.player;
+            if (simulate) {
+                // Resuming spawns entities, which a simulation must not do
+                if (resumingPlayer.requiem_isPossessionResumePending()) {
+                    return false;
+                }
+            } else {
+                // An entity possessed before logging in takes precedence, and must not be lost or replaced
+                resumingPlayer.requiem_resumePendingPossession();
+            }
+        }
+
         // Check that the player can initiate possession
         if (!isReadyForPossession()) {
             return false;
@@ -134,8 +161,10 @@ public final class PossessionComponentImpl implements PossessionComponent {
             }
             host.setTarget(null);
         }
+        this.delegateAttributes(host);
         // Actually set the possessed entity
         this.possessed = host;
+        ((SoulStateEntity) this.player).requiem_setSoulFlag(SoulStateEntity.POSSESSING, true);
         possessable.setPossessor(this.player);
         PossessionComponent.KEY.sync(this.player);
         // Update some attributes
@@ -156,6 +185,28 @@ public final class PossessionComponentImpl implements PossessionComponent {
         PossessionStateChangeCallback.EVENT.invoker().onPossessionStateChange(this.player, host);
     }
 
+    /**
+     * Makes the player's attributes delegate to the ones of the host.
+     *
+     * <p>Delegation is only set up for attributes that the host actually has, the first time they are needed.
+     * The player's attribute instances must exist for the delegation to happen, as attribute containers
+     * fall back to default values otherwise.
+     */
+    private void delegateAttributes(LivingEntity host) {
+        AttributeContainer hostAttributes = host.getAttributes();
+
+        for (EntityAttribute attribute : Registry.ATTRIBUTE) {
+            if (!this.delegatedAttributes.contains(attribute) && hostAttributes.hasAttribute(attribute)) {
+                EntityAttributeInstance instance = this.player.getAttributeInstance(attribute);
+                // the attribute can be null if it is not registered for players
+                if (instance != null) {
+                    ((NonDeterministicAttribute) instance).addFinalModifier(new PossessionDelegatingModifier(attribute, this));
+                    this.delegatedAttributes.add(attribute);
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -252,6 +303,7 @@ public final class PossessionComponentImpl implements PossessionComponent {
 
     private void resetState() {
         this.possessed = null;
+        ((SoulStateEntity) this.player).requiem_setSoulFlag(SoulStateEntity.POSSESSING, false);
         this.conversionTimer = 0;
         MovementAlterer.get(this.player).setConfig(RemnantComponent.get(this.player).isVagrant() ? SerializableMovementConfig.SOUL : null);
         this.player.calculateDimensions(); // update size
@@ -0,0 +1,251 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.impl.remnant;
+
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Attrition levels indexed by player UUID, stored as parallel primitive arrays sorted by UUID.
+ *
+ * <p>Timed instances also remember when each entry was last increased, so that stale entries can be expired.
+ */
+final class AttritionLevels {
+    private static final String PLAYERS_TAG = "attrition_players";
+    private static final String LEVELS_TAG = "attrition_player_levels";
+    private static final String LAST_UPDATES_TAG = "attrition_last_updates";
+    /**
+     * Format used up to Requiem 1.5.1: a list of compounds holding a player UUID and a level
+     */
+    private static final String LEGACY_LEVELS_TAG = "attrition_levels";
+
+    private final boolean timed;
+    private long[] mostSigBits = new long[4];
+    private long[] leastSigBits = new long[4];
+    private int[] levels = new int[4];
+    private @Nullable long[] lastUpdates;
+    private int size;
+
+    AttritionLevels(boolean timed) {
+        this.timed = timed;
+        this.lastUpdates = timed ? new long[4] : null;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    UUID getPlayer(int index) {
+        return new UUID(this.mostSigBits[index], this.leastSigBits[index]);
+    }
+
+    int getLevel(int index) {
+        return this.levels[index];
+    }
+
+    void add(UUID player, int level) {
+        int index = this.indexOf(player.getMostSignificantBits(), player.getLeastSignificantBits());
+        if (index >= 0) {
+            this.levels[index] += level;
+            if (this.lastUpdates != null) this.lastUpdates[index] = System.currentTimeMillis();
+        } else {
+            this.insert(-index - 1, player.getMostSignificantBits(), player.getLeastSignificantBits(), level, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @return the level removed for the given player, or {@code 0} if there was none
+     */
+    int remove(UUID player) {
+        int index = this.indexOf(player.getMostSignificantBits(), player.getLeastSignificantBits());
+        if (index < 0) return 0;
+        int level = this.levels[index];
+        this.removeRange(index, index + 1);
+        return level;
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Removes every entry that was last increased before the given epoch time. Untimed instances never expire.
+     */
+    void expire(long cutoff) {
+        if (this.lastUpdates == null) return;
+
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.lastUpdates[i] >= cutoff) {
+                this.mostSigBits[kept] = this.mostSigBits[i];
+                this.leastSigBits[kept] = this.leastSigBits[i];
+                this.levels[kept] = this.levels[i];
+                this.lastUpdates[kept] = this.lastUpdates[i];
+                kept++;
+            }
+        }
+        this.size = kept;
+    }
+
+    static boolean hasSerializedLevels(CompoundTag tag) {
+        return tag.contains(PLAYERS_TAG, NbtType.LONG_ARRAY) || tag.contains(LEGACY_LEVELS_TAG, NbtType.LIST);
+    }
+
+    void readFromNbt(CompoundTag tag) {
+        this.clear();
+        long now = System.currentTimeMillis();
+
+        if (tag.contains(PLAYERS_TAG, NbtType.LONG_ARRAY)) {
+            long[] players = tag.getLongArray(PLAYERS_TAG);
+            int[] levels = tag.getIntArray(LEVELS_TAG);
+            long[] lastUpdates = tag.getLongArray(LAST_UPDATES_TAG);
+            int count = Math.min(players.length / 2, levels.length);
+
+            for (int i = 0; i < count; i++) {
+                this.put(players[2 * i], players[2 * i + 1], levels[i], i < lastUpdates.length ? lastUpdates[i] : now);
+            }
+        } else {
+            ListTag legacyLevels = tag.getList(LEGACY_LEVELS_TAG, NbtType.COMPOUND);
+
+            for (int i = 0; i < legacyLevels.size(); i++) {
+                CompoundTag playerLevel = legacyLevels.getCompound(i);
+                UUID player = playerLevel.getUuid("player_uuid");
+                this.put(player.getMostSignificantBits(), player.getLeastSignificantBits(), playerLevel.getInt("level"), now);
+            }
+        }
+    }
+
+    void writeToNbt(CompoundTag tag) {
+        long[] players = new long[2 * this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            players[2 * i] = this.mostSigBits[i];
+            players[2 * i + 1] = this.leastSigBits[i];
+        }
+
+        tag.put(PLAYERS_TAG, new LongArrayTag(players));
+        tag.put(LEVELS_TAG, new IntArrayTag(Arrays.copyOf(this.levels, this.size)));
+
+        if (this.lastUpdates != null) {
+            tag.put(LAST_UPDATES_TAG, new LongArrayTag(Arrays.copyOf(this.lastUpdates, this.size)));
+        }
+    }
+
+    /**
+     * Sets the level of a player, appending directly when entries come in sorted order
+     */
+    private void put(long most, long least, int level, long lastUpdate) {
+        int index = this.size > 0 && compare(most, least, this.mostSigBits[this.size - 1], this.leastSigBits[this.size - 1]) > 0
+            ? -this.size - 1
+            : this.indexOf(most, least);
+
+        if (index >= 0) {
+            this.levels[index] = level;
+            if (this.lastUpdates != null) this.lastUpdates[index] = lastUpdate;
+        } else {
+            this.insert(-index - 1, most, least, level, lastUpdate);
+        }
+    }
+
+    private void insert(int index, long most, long least, int level, long lastUpdate) {
+        if (this.size == this.levels.length) {
+            int capacity = this.size * 2;
+            this.mostSigBits = Arrays.copyOf(this.mostSigBits, capacity);
+            this.leastSigBits = Arrays.copyOf(this.leastSigBits, capacity);
+            this.levels = Arrays.copyOf(this.levels, capacity);
+            if (this.lastUpdates != null) this.lastUpdates = Arrays.copyOf(this.lastUpdates, capacity);
+        }
+
+        int moved = this.size - index;
+        System.arraycopy(this.mostSigBits, index, this.mostSigBits, index + 1, moved);
+        System.arraycopy(this.leastSigBits, index, this.leastSigBits, index + 1, moved);
+        System.arraycopy(this.levels, index, this.levels, index + 1, moved);
+        if (this.lastUpdates != null) System.arraycopy(this.lastUpdates, index, this.lastUpdates, index + 1, moved);
+
+        this.mostSigBits[index] = most;
+        this.leastSigBits[index] = least;
+        this.levels[index] = level;
+        if (this.lastUpdates != null) this.lastUpdates[index] = lastUpdate;
+        this.size++;
+    }
+
+    private void removeRange(int from, int to) {
+        int moved = this.size - to;
+        System.arraycopy(this.mostSigBits, to, this.mostSigBits, from, moved);
+        System.arraycopy(this.leastSigBits, to, this.leastSigBits, from, moved);
+        System.arraycopy(this.levels, to, this.levels, from, moved);
+        if (this.lastUpdates != null) System.arraycopy(this.lastUpdates, to, this.lastUpdates, from, moved);
+        this.size -= to - from;
+    }
+
+    /**
+     * @return the index of the given UUID if present, otherwise {@code -(insertion point) - 1}
+     */
+    private int indexOf(long most, long least) {
+        int low = 0;
+        int high = this.size - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(this.mostSigBits[mid], this.leastSigBits[mid], most, least);
+
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    private static int compare(long most1, long least1, long most2, long least2) {
+        int cmp = Long.compare(most1, most2);
+        return cmp != 0 ? cmp : Long.compare(least1, least2);
+    }
+}
@@ -35,11 +35,14 @@
 package ladysnake.requiem.common.impl.remnant;
 
 import ladysnake.requiem.common.entity.effect.AttritionStatusEffect;
+import ladysnake.requiem.common.gamerule.RequiemGamerules;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.MinecraftServer;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public class GlobalAttritionFocus extends SimpleAttritionFocus {
     private final @Nullable MinecraftServer server;
@@ -60,4 +63,25 @@ public class GlobalAttritionFocus extends SimpleAttritionFocus {
             super.addAttrition(playerUuid, level);
         }
     }
+
+    @Override
+    protected AttritionLevels createLevels() {
+        // Offline players may never come back, their attrition expires after a while
+        return new AttritionLevels(true);
+    }
+
+    @Override
+    public void writeToNbt(CompoundTag tag) {
+        this.expireStaleLevels();
+        super.writeToNbt(tag);
+    }
+
+    private void expireStaleLevels() {
+        if (this.server == null || this.attritionLevels == null) return;
+
+        int expiryDays = this.server.getGameRules().getInt(RequiemGamerules.ATTRITION_EXPIRY_DAYS);
+        if (expiryDays > 0) {
+            this.attritionLevels.expire(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(expiryDays));
+        }
+    }
 }
@@ -45,10 +45,10 @@ import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantState;
 import ladysnake.requiem.api.v1.remnant.SoulbindingRegistry;
-import ladysnake.requiem.api.v1.remnant.StickyStatusEffect;
 import ladysnake.requiem.common.advancement.criterion.RequiemCriteria;
 import ladysnake.requiem.common.entity.effect.AttritionStatusEffect;
 import ladysnake.requiem.common.entity.effect.RequiemStatusEffects;
+import ladysnake.requiem.common.entity.internal.FlaggedStatusEffect;
 import ladysnake.requiem.common.impl.movement.SerializableMovementConfig;
 import ladysnake.requiem.common.network.RequiemNetworking;
 import ladysnake.requiem.common.tag.RequiemEntityTypeTags;
@@ -179,7 +179,7 @@ public class MutableRemnantState implements RemnantState {
             }
         }
         for (StatusEffectInstance effect : original.getStatusEffects()) {
-            if (StickyStatusEffect.shouldStick(effect.getEffectType(), this.player)) {
+            if (FlaggedStatusEffect.shouldStick(effect.getEffectType(), this.player)) {
                 this.player.addStatusEffect(new StatusEffectInstance(effect));
             }
         }
@@ -39,6 +39,7 @@ import ladysnake.requiem.api.v1.event.requiem.RemnantStateChangeCallback;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantState;
 import ladysnake.requiem.api.v1.remnant.RemnantType;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import ladysnake.requiem.common.gamerule.RequiemGamerules;
 import ladysnake.requiem.common.remnant.RemnantTypes;
 import net.minecraft.entity.LivingEntity;
@@ -112,6 +113,7 @@ public final class RemnantComponentImpl implements RemnantComponent {
 
     private void fireRemnantStateChange(boolean wasSoul) {
         boolean nowSoul = this.isVagrant();
+        ((SoulStateEntity) this.player).requiem_setSoulFlag(SoulStateEntity.VAGRANT, nowSoul);
 
         if (wasSoul != nowSoul) {
             RemnantStateChangeCallback.EVENT.invoker().onRemnantStateChange(this.player, this);
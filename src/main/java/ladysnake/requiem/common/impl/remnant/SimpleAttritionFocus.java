@@ -34,30 +34,41 @@
  */
 package ladysnake.requiem.common.impl.remnant;
 
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import ladysnake.requiem.api.v1.remnant.AttritionFocus;
 import ladysnake.requiem.common.entity.effect.AttritionStatusEffect;
-import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
 import java.util.UUID;
 
 public class SimpleAttritionFocus implements AttritionFocus {
-    protected final Object2IntOpenHashMap<UUID> attritionLevels = new Object2IntOpenHashMap<>();
+    /**
+     * Lazily allocated, most mobs never get any attrition
+     */
+    protected @Nullable AttritionLevels attritionLevels;
+
+    protected AttritionLevels createLevels() {
+        return new AttritionLevels(false);
+    }
+
+    private AttritionLevels getOrCreateLevels() {
+        if (this.attritionLevels == null) {
+            this.attritionLevels = this.createLevels();
+        }
+        return this.attritionLevels;
+    }
 
     @Override
     public void addAttrition(UUID playerUuid, @Nonnegative int level) {
-        this.attritionLevels.mergeInt(playerUuid, level, Integer::sum);
+        this.getOrCreateLevels().add(playerUuid, level);
     }
 
     @Override
     public void applyAttrition(PlayerEntity player) {
-        int attrition = this.attritionLevels.removeInt(player.getUuid());
+        if (this.attritionLevels == null) return;
+        int attrition = this.attritionLevels.remove(player.getUuid());
         if (attrition > 0) {
             AttritionStatusEffect.apply(player, attrition);
         }
@@ -65,42 +76,29 @@ public class SimpleAttritionFocus implements AttritionFocus {
 
     @Override
     public void transferAttrition(AttritionFocus other) {
-        for (ObjectIterator<Object2IntMap.Entry<UUID>> iterator = this.attritionLevels.object2IntEntrySet().fastIterator(); iterator.hasNext(); ) {
-            Object2IntMap.Entry<UUID> entry = iterator.next();
-            other.addAttrition(entry.getKey(), entry.getIntValue());
-            iterator.remove();
+        if (this.attritionLevels == null) return;
+        for (int i = 0; i < this.attritionLevels.size(); i++) {
+            other.addAttrition(this.attritionLevels.getPlayer(i), this.attritionLevels.getLevel(i));
         }
+        this.attritionLevels.clear();
     }
 
     @Override
     public boolean hasAttrition() {
-        return !this.attritionLevels.isEmpty();
+        return this.attritionLevels != null && !this.attritionLevels.isEmpty();
     }
 
     @Override
     public void readFromNbt(CompoundTag tag) {
-        if (tag.contains("attrition_levels")) {
-            ListTag levels = tag.getList("attrition_levels", NbtType.COMPOUND);
-            this.attritionLevels.clear();
-            for (int i = 0; i < levels.size(); i++) {
-                CompoundTag playerLevel = levels.getCompound(i);
-                int level = playerLevel.getInt("level");
-                this.attritionLevels.put(playerLevel.getUuid("player_uuid"), level);
-            }
+        if (AttritionLevels.hasSerializedLevels(tag)) {
+            this.getOrCreateLevels().readFromNbt(tag);
         }
     }
 
     @Override
     public void writeToNbt(CompoundTag tag) {
-        if (!this.attritionLevels.isEmpty()) {
-            ListTag levels = new ListTag();
-            for (Object2IntMap.Entry<UUID> entry : attritionLevels.object2IntEntrySet()) {
-                CompoundTag level = new CompoundTag();
-                level.putUuid("player_uuid", entry.getKey());
-                level.putInt("level", entry.getIntValue());
-                levels.add(level);
-            }
-            tag.put("attrition_levels", levels);
+        if (this.attritionLevels != null && this.hasAttrition()) {
+            this.attritionLevels.writeToNbt(tag);
         }
     }
 }
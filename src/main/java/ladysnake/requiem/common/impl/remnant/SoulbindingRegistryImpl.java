@@ -35,21 +35,20 @@
 package ladysnake.requiem.common.impl.remnant;
 
 import ladysnake.requiem.api.v1.remnant.SoulbindingRegistry;
+import ladysnake.requiem.common.entity.internal.FlaggedStatusEffect;
 import net.minecraft.entity.effect.StatusEffect;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
-
+/**
+ * Stores soulbinding directly on each {@link StatusEffect}, as a {@link FlaggedStatusEffect#SOULBOUND} flag
+ */
 public final class SoulbindingRegistryImpl implements SoulbindingRegistry {
-    private final Set<StatusEffect> soulboundEffects = new LinkedHashSet<>();
-
     @Override
     public void registerSoulbound(StatusEffect effect) {
-        soulboundEffects.add(effect);
+        ((FlaggedStatusEffect) effect).requiem_setEffectFlag(FlaggedStatusEffect.SOULBOUND, true);
     }
 
     @Override
     public boolean isSoulbound(StatusEffect effect) {
-        return soulboundEffects.contains(effect);
+        return FlaggedStatusEffect.isSoulbound(effect);
     }
 }
@@ -48,13 +48,20 @@ import java.util.Objects;
 public final class ExtendedDamageSourcePredicate {
     public static final ExtendedDamageSourcePredicate EMPTY = new ExtendedDamageSourcePredicate(DamageSourcePredicate.EMPTY, null);
     private final DamageSourcePredicate base;
-    private final String damageName;
+    private final @Nullable String damageName;
 
-    private ExtendedDamageSourcePredicate(DamageSourcePredicate base, String damageName) {
+    private ExtendedDamageSourcePredicate(DamageSourcePredicate base, @Nullable String damageName) {
         this.base = base;
         this.damageName = damageName;
     }
 
+    /**
+     * @return the {@linkplain DamageSource#name name} a damage source must have to match this predicate, or {@code null} if any name matches
+     */
+    public @Nullable String getDamageName() {
+        return this.damageName;
+    }
+
     public boolean test(ServerPlayerEntity player, DamageSource damage) {
         return (damageName == null || damageName.equals(damage.name)) && base.test(player, damage);
     }
@@ -101,6 +101,28 @@ public final class ResurrectionData implements Comparable<ResurrectionData> {
     }
 
 
+    /**
+     * @return the name the killing blow must have for this resurrection to apply, or {@code null} if there is no such requirement
+     */
+    public @Nullable String getKillingBlowName() {
+        return this.damageSourcePredicate == null ? null : this.damageSourcePredicate.getDamageName();
+    }
+
+    /**
+     * @return {@code true} if this resurrection can apply to a player possessing an entity
+     */
+    public boolean canApplyWhilePossessing() {
+        return this.possessedPredicate != null;
+    }
+
+    /**
+     * @return {@code true} if this resurrection can apply to a player who is not possessing anything
+     */
+    public boolean canApplyWithoutPossessing() {
+        // EntityPredicate#test only accepts null entities for the ANY predicate
+        return this.possessedPredicate == null || this.possessedPredicate == EntityPredicate.ANY;
+    }
+
     public boolean matches(ServerPlayerEntity player, @Nullable LivingEntity possessed, DamageSource killingBlow) {
         if (killingBlow.isOutOfWorld()) return false;
 
@@ -59,11 +59,13 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
-public final class ResurrectionDataLoader implements SimpleResourceReloadListener<List<ResurrectionData>> {
+public final class ResurrectionDataLoader implements SimpleResourceReloadListener<ResurrectionDataLoader.Index> {
     public static final ResurrectionDataLoader INSTANCE = new ResurrectionDataLoader();
 
     public static final Gson GSON = new GsonBuilder()
@@ -71,7 +73,10 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
         .registerTypeAdapter(new TypeToken<EntityType<?>>() {}.getType(), new EntityTypeAdapter())
         .create();
 
-    private final List<ResurrectionData> resurrectionData = new ArrayList<>();
+    /**
+     * Immutable snapshot of the loaded data, replaced as a whole on reload
+     */
+    private volatile Index resurrectionData = Index.EMPTY;
 
     @Nullable
     public MobEntity getNextBody(ServerPlayerEntity player, DamageSource killingBlow) {
@@ -80,7 +85,7 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
 
     @Nullable
     public MobEntity getNextBody(ServerPlayerEntity player, @Nullable LivingEntity possessed, DamageSource killingBlow) {
-        for (ResurrectionData resurrectionDatum : resurrectionData) {
+        for (ResurrectionData resurrectionDatum : this.resurrectionData.getCandidates(possessed != null, killingBlow)) {
             if (resurrectionDatum.matches(player, possessed, killingBlow)) {
                 Entity nextBody = resurrectionDatum.createEntity(player.world);
                 if (nextBody instanceof MobEntity) {
@@ -93,7 +98,7 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
     }
 
     @Override
-    public CompletableFuture<List<ResurrectionData>> load(ResourceManager manager, Profiler profiler, Executor executor) {
+    public CompletableFuture<Index> load(ResourceManager manager, Profiler profiler, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
             List<ResurrectionData> resurrectionData = new ArrayList<>();
             for (Identifier location : manager.findResources("requiem_resurrections", (res) -> res.endsWith(".json"))) {
@@ -104,20 +109,78 @@ public final class ResurrectionDataLoader implements SimpleResourceReloadListene
                 }
             }
             Collections.sort(resurrectionData);
-            return resurrectionData;
+            return new Index(resurrectionData);
         }, executor);
     }
 
     @Override
-    public CompletableFuture<Void> apply(List<ResurrectionData> resurrectionData, ResourceManager resourceManager, Profiler profiler, Executor executor) {
-        return CompletableFuture.runAsync(() -> {
-            this.resurrectionData.clear();
-            this.resurrectionData.addAll(resurrectionData);
-        }, executor);
+    public CompletableFuture<Void> apply(Index resurrectionData, ResourceManager resourceManager, Profiler profiler, Executor executor) {
+        return CompletableFuture.runAsync(() -> this.resurrectionData = resurrectionData, executor);
     }
 
     @Override
     public Identifier getFabricId() {
         return Requiem.id("resurrection");
     }
+
+    /**
+     * Resurrection data, pre-sorted by priority and indexed by the conditions that can be checked without evaluating predicates
+     */
+    public static final class Index {
+        static final Index EMPTY = new Index(Collections.emptyList());
+
+        private final Map<String, List<ResurrectionData>> possessedByDamageName;
+        private final List<ResurrectionData> possessedFallback;
+        private final Map<String, List<ResurrectionData>> unpossessedByDamageName;
+        private final List<ResurrectionData> unpossessedFallback;
+
+        /**
+         * @param sortedData every loaded resurrection data, sorted by priority
+         */
+        Index(List<ResurrectionData> sortedData) {
+            List<ResurrectionData> possessed = new ArrayList<>();
+            List<ResurrectionData> unpossessed = new ArrayList<>();
+
+            for (ResurrectionData data : sortedData) {
+                if (data.canApplyWhilePossessing()) possessed.add(data);
+                if (data.canApplyWithoutPossessing()) unpossessed.add(data);
+            }
+
+            this.possessedByDamageName = indexByDamageName(possessed);
+            this.possessedFallback = filterByDamageName(possessed, null);
+            this.unpossessedByDamageName = indexByDamageName(unpossessed);
+            this.unpossessedFallback = filterByDamageName(unpossessed, null);
+        }
+
+        private static Map<String, List<ResurrectionData>> indexByDamageName(List<ResurrectionData> data) {
+            Map<String, List<ResurrectionData>> ret = new HashMap<>();
+            for (ResurrectionData datum : data) {
+                String damageName = datum.getKillingBlowName();
+                if (damageName != null && !ret.containsKey(damageName)) {
+                    ret.put(damageName, filterByDamageName(data, damageName));
+                }
+            }
+            return ret;
+        }
+
+        /**
+         * @return every datum that can match a damage source with the given name, in priority order
+         */
+        private static List<ResurrectionData> filterByDamageName(List<ResurrectionData> data, @Nullable String damageName) {
+            List<ResurrectionData> ret = new ArrayList<>();
+            for (ResurrectionData datum : data) {
+                String requiredName = datum.getKillingBlowName();
+                if (requiredName == null || requiredName.equals(damageName)) {
+                    ret.add(datum);
+                }
+            }
+            return Collections.unmodifiableList(ret);
+        }
+
+        List<ResurrectionData> getCandidates(boolean possessing, DamageSource killingBlow) {
+            if (killingBlow.isOutOfWorld()) return Collections.emptyList();
+            Map<String, List<ResurrectionData>> byDamageName = possessing ? this.possessedByDamageName : this.unpossessedByDamageName;
+            return byDamageName.getOrDefault(killingBlow.getName(), possessing ? this.possessedFallback : this.unpossessedFallback);
+        }
+    }
 }
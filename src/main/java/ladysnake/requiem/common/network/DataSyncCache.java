@@ -0,0 +1,189 @@
+/*
+ * Requiem
+ * Copyright (C) 2017-2021 Ladysnake
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses>.
+ *
+ * Linking this mod statically or dynamically with other
+ * modules is making a combined work based on this mod.
+ * Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *
+ * In addition, as a special exception, the copyright holders of
+ * this mod give you permission to combine this mod
+ * with free software programs or libraries that are released under the GNU LGPL
+ * and with code included in the standard release of Minecraft under All Rights Reserved (or
+ * modified versions of such code, with unchanged license).
+ * You may copy and distribute such a system following the terms of the GNU GPL for this mod
+ * and the licenses of the other code concerned.
+ *
+ * Note that people who make modified versions of this mod are not obligated to grant
+ * this special exception for their modified versions; it is their choice whether to do so.
+ * The GNU General Public License gives permission to release a modified version without this exception;
+ * this exception also makes it possible to release a modified version which carries forward this exception.
+ */
+package ladysnake.requiem.common.network;
+
+import com.google.common.hash.Hashing;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import ladysnake.requiem.Requiem;
+import ladysnake.requiem.api.v1.util.SubDataManager;
+import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.packet.s2c.play.CustomPayloadS2CPacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+
+/**
+ * Keeps the compressed {@link SubDataManager} payloads sent through {@link RequiemNetworking#DATA_SYNC},
+ * so that each payload is encoded once per data pack reload and only sent to connections that did not receive it yet.
+ *
+ * <p>Each payload is identified by a hash of its content, which lets clients skip payloads they already applied.
+ */
+public final class DataSyncCache {
+    public static final DataSyncCache INSTANCE = new DataSyncCache();
+
+    /**
+     * Hashes of the payloads last sent to each connection, forgotten along with the connection
+     */
+    private final Map<ServerPlayNetworkHandler, Object2LongMap<Identifier>> sentHashes = new WeakHashMap<>();
+    private final List<Payload> payloads = new ArrayList<>();
+    /**
+     * Replaced by the server on every data pack reload, used to detect when payloads must be encoded again
+     */
+    private @Nullable Object dataVersion;
+
+    private DataSyncCache() { }
+
+    /**
+     * Creates a message containing every payload that changed since the last one sent to the given player.
+     *
+     * @return a {@link RequiemNetworking#DATA_SYNC} message, or {@code null} if the player is already up to date
+     */
+    public @Nullable CustomPayloadS2CPacket createSyncMessage(ServerPlayerEntity player, SubDataManagerHelper helper) {
+        this.refresh(player.server, helper);
+        Object2LongMap<Identifier> known = this.sentHashes.computeIfAbsent(player.networkHandler, h -> new Object2LongOpenHashMap<>());
+        List<Payload> changed = new ArrayList<>();
+
+        for (Payload payload : this.payloads) {
+            if (!known.containsKey(payload.id) || known.getLong(payload.id) != payload.hash) {
+                changed.add(payload);
+                known.put(payload.id, payload.hash);
+            }
+        }
+
+        if (changed.isEmpty()) {
+            return null;
+        }
+
+        PacketByteBuf buf = RequiemNetworking.createEmptyBuffer();
+        buf.writeVarInt(changed.size());
+        for (Payload payload : changed) {
+            buf.writeIdentifier(payload.id);
+            buf.writeLong(payload.hash);
+            buf.writeVarInt(payload.size);
+            buf.writeByteArray(payload.compressed);
+        }
+        return new CustomPayloadS2CPacket(RequiemNetworking.DATA_SYNC, buf);
+    }
+
+    private void refresh(MinecraftServer server, SubDataManagerHelper helper) {
+        // A new tag manager is created every time the server (re)loads its data packs
+        Object version = server.getTagManager();
+        if (version == this.dataVersion) return;
+
+        this.dataVersion = version;
+        this.payloads.clear();
+        helper.streamDataManagers().forEach(manager -> {
+            PacketByteBuf buf = RequiemNetworking.createEmptyBuffer();
+            manager.toPacket(buf);
+            byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+            Payload payload = new Payload(manager.getFabricId(), Hashing.murmur3_128().hashBytes(data).asLong(), data.length, deflate(data));
+            Requiem.LOGGER.info("[Requiem] Encoded data for {} ({}, {} bytes compressed)", manager.getFabricId(), manager, payload.compressed.length);
+            this.payloads.add(payload);
+        });
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 16);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses a payload written by {@link #createSyncMessage(ServerPlayerEntity, SubDataManagerHelper)}.
+     *
+     * @param compressed the compressed payload
+     * @param size       the size of the payload once decompressed
+     * @return a buffer from which the corresponding {@link SubDataManager} can load its data
+     */
+    public static PacketByteBuf inflate(byte[] compressed, int size) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] data = new byte[size];
+            int read = 0;
+            while (read < size) {
+                int length = inflater.inflate(data, read, size - read);
+                if (length == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated data payload (" + read + "/" + size + " bytes)");
+                }
+                read += length;
+            }
+            return new PacketByteBuf(wrappedBuffer(data));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Payload {
+        final Identifier id;
+        final long hash;
+        final int size;
+        final byte[] compressed;
+
+        Payload(Identifier id, long hash, int size, byte[] compressed) {
+            this.id = id;
+            this.hash = hash;
+            this.size = size;
+            this.compressed = compressed;
+        }
+    }
+}
@@ -37,7 +37,6 @@ package ladysnake.requiem.common.network;
 import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.entity.ability.AbilityType;
 import ladysnake.requiem.api.v1.remnant.RemnantType;
-import ladysnake.requiem.api.v1.util.SubDataManager;
 import ladysnake.requiem.api.v1.util.SubDataManagerHelper;
 import ladysnake.requiem.common.remnant.RemnantTypes;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
@@ -53,9 +52,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Contract;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.jetbrains.annotations.Nullable;
 
 import static io.netty.buffer.Unpooled.buffer;
 
@@ -124,16 +121,12 @@ public class RequiemNetworking {
         return new CustomPayloadS2CPacket(id, createEmptyBuffer());
     }
 
-    public static CustomPayloadS2CPacket createDataSyncMessage(SubDataManagerHelper helper) {
-        PacketByteBuf buf = createEmptyBuffer();
-        List<SubDataManager<?>> managers = helper.streamDataManagers().collect(Collectors.toList());
-        buf.writeVarInt(managers.size());
-        for (SubDataManager<?> manager : managers) {
-            Requiem.LOGGER.info("[Requiem] Synchronizing data for {} ({})", manager.getFabricId(), manager);
-            buf.writeIdentifier(manager.getFabricId());
-            manager.toPacket(buf);
-        }
-        return new CustomPayloadS2CPacket(DATA_SYNC, buf);
+    /**
+     * @return a message containing the server data the player has not received yet, or {@code null} if they are up to date
+     * @see DataSyncCache
+     */
+    public static @Nullable CustomPayloadS2CPacket createDataSyncMessage(ServerPlayerEntity player, SubDataManagerHelper helper) {
+        return DataSyncCache.INSTANCE.createSyncMessage(player, helper);
     }
 
     @Contract(pure = true)
@@ -178,9 +171,10 @@ public class RequiemNetworking {
         sendToServer(USE_INDIRECT_ABILITY, buf);
     }
 
-    public static void sendHugWallMessage(boolean hugging) {
+    public static void sendHugWallMessage(boolean hugging, int sequence) {
         PacketByteBuf buf = new PacketByteBuf(buffer());
         buf.writeBoolean(hugging);
+        buf.writeVarInt(sequence);
         sendToServer(new CustomPayloadC2SPacket(HUGGING_WALL, buf));
     }
 
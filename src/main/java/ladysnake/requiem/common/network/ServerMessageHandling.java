@@ -42,6 +42,7 @@ import ladysnake.requiem.api.v1.event.requiem.InitiateFractureCallback;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantType;
+import ladysnake.requiem.common.impl.movement.PlayerMovementAlterer;
 import ladysnake.requiem.common.item.OpusDemoniumItem;
 import ladysnake.requiem.common.item.RequiemItems;
 import ladysnake.requiem.common.remnant.RemnantTypes;
@@ -132,9 +133,15 @@ public class ServerMessageHandling {
         });
         ServerPlayNetworking.registerGlobalReceiver(HUGGING_WALL, (server, player, handler, buf, responseSender) -> {
             boolean yes = buf.readBoolean();
+            int sequence = buf.readVarInt();
             // Possible failure points: the player may not actually be against a block, or it may not have the right movement
-            // we do not handle those right now, as movement is entirely done clientside
-            server.execute(() -> MovementAlterer.get(player).hugWall(yes));
+            // we do not handle the former right now, as movement is entirely done clientside
+            server.execute(() -> {
+                MovementAlterer movementAlterer = MovementAlterer.get(player);
+                if (movementAlterer instanceof PlayerMovementAlterer) {
+                    ((PlayerMovementAlterer) movementAlterer).receiveWallHugging(yes, sequence);
+                }
+            });
         });
         ServerPlayNetworking.registerGlobalReceiver(OPEN_CRAFTING_MENU, (server, player, handler, buf, responseSender) -> server.execute(() -> {
             MobEntity possessed = PossessionComponent.get(player).getPossessedEntity();
@@ -37,8 +37,42 @@ package ladysnake.requiem.common.tag;
 import ladysnake.requiem.Requiem;
 import net.fabricmc.fabric.api.tag.TagRegistry;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.tag.ServerTagManagerHolder;
 import net.minecraft.tag.Tag;
+import net.minecraft.tag.TagGroup;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Requiem's block tags.
+ *
+ * <p>Membership in {@link #SOUL_IMPERMEABLE} is precomputed for every block state whenever the current tag group changes,
+ * as it gets checked by collision queries.
+ */
 public final class RequiemBlockTags {
+    private static volatile @Nullable TagGroup<Block> indexedGroup;
+
     public static final Tag<Block> SOUL_IMPERMEABLE = TagRegistry.block(Requiem.id("soul_impermeable"));
+
+    public static boolean isSoulImpermeable(BlockState state) {
+        ensureIndexed();
+        return ((TagIndexedBlockState) state).requiem_isSoulImpermeable();
+    }
+
+    private static void ensureIndexed() {
+        TagGroup<Block> group = ServerTagManagerHolder.getTagManager().getBlocks();
+        if (group != indexedGroup) {
+            reindex(group);
+        }
+    }
+
+    private static synchronized void reindex(TagGroup<Block> group) {
+        if (group == indexedGroup) return;
+
+        for (BlockState state : Block.STATE_IDS) {
+            ((TagIndexedBlockState) state).requiem_setSoulImpermeable(SOUL_IMPERMEABLE.contains(state.getBlock()));
+        }
+
+        indexedGroup = group;
+    }
 }
@@ -37,9 +37,25 @@ package ladysnake.requiem.common.tag;
 import ladysnake.requiem.Requiem;
 import net.fabricmc.fabric.api.tag.TagRegistry;
 import net.minecraft.entity.EntityType;
+import net.minecraft.tag.ServerTagManagerHolder;
 import net.minecraft.tag.Tag;
+import net.minecraft.tag.TagGroup;
+import net.minecraft.util.registry.Registry;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Requiem's entity type tags.
+ *
+ * <p>Membership in these tags is precomputed for every entity type whenever the current tag group changes,
+ * so that {@link Tag#contains(Object)} only reads a bit on the entity type.
+ */
 public final class RequiemEntityTypeTags {
+    private static final List<IndexedTag> INDEXED_TAGS = new ArrayList<>();
+    private static volatile @Nullable TagGroup<EntityType<?>> indexedGroup;
+
     public static final Tag<EntityType<?>> DICHROMATS = register("vision/dichromats");
     public static final Tag<EntityType<?>> TETRACHROMATS = register("vision/tetrachromats");
 
@@ -68,6 +84,56 @@ public final class RequiemEntityTypeTags {
     }
 
     public static Tag<EntityType<?>> register(String name) {
-        return TagRegistry.entityType(Requiem.id(name));
+        Tag<EntityType<?>> tag = TagRegistry.entityType(Requiem.id(name));
+        if (INDEXED_TAGS.size() >= Long.SIZE) {
+            return tag;
+        }
+        IndexedTag indexedTag = new IndexedTag(tag, 1L << INDEXED_TAGS.size());
+        INDEXED_TAGS.add(indexedTag);
+        return indexedTag;
+    }
+
+    private static void ensureIndexed() {
+        TagGroup<EntityType<?>> group = ServerTagManagerHolder.getTagManager().getEntityTypes();
+        if (group != indexedGroup) {
+            reindex(group);
+        }
+    }
+
+    private static synchronized void reindex(TagGroup<EntityType<?>> group) {
+        if (group == indexedGroup) return;
+
+        for (EntityType<?> type : Registry.ENTITY_TYPE) {
+            long bits = 0L;
+            for (IndexedTag tag : INDEXED_TAGS) {
+                if (tag.delegate.contains(type)) {
+                    bits |= tag.mask;
+                }
+            }
+            ((TagIndexedEntityType) type).requiem_setTagBits(bits);
+        }
+
+        indexedGroup = group;
+    }
+
+    private static final class IndexedTag implements Tag<EntityType<?>> {
+        private final Tag<EntityType<?>> delegate;
+        private final long mask;
+
+        IndexedTag(Tag<EntityType<?>> delegate, long mask) {
+            this.delegate = delegate;
+            this.mask = mask;
+        }
+
+        @Override
+        public boolean contains(EntityType<?> entry) {
+            ensureIndexed();
+            return (((TagIndexedEntityType) entry).requiem_getTagBits() & this.mask) != 0;
+        }
+
+        @Override
+        public List<EntityType<?>> values() {
+            return this.delegate.values();
+        }
     }
 }
@@ -35,6 +35,7 @@
 package ladysnake.requiem.mixin.client.inventory;
 
 import ladysnake.requiem.api.v1.entity.InventoryLimiter;
+import ladysnake.requiem.client.RequiemHudState;
 import ladysnake.requiem.common.impl.inventory.PlayerInventoryLimiter;
 import net.minecraft.client.gui.hud.InGameHud;
 import net.minecraft.client.util.math.MatrixStack;
@@ -69,7 +70,7 @@ public abstract class InGameHudMixin {
         cancellable = true
     )
     private void checkInventoryLimit(float tickDelta, MatrixStack matrices, CallbackInfo ci) {
-        InventoryLimiter.HotbarAvailability hotbarAvailability = InventoryLimiter.KEY.get(this.getCameraPlayer()).getHotbarAvailability();
+        InventoryLimiter.HotbarAvailability hotbarAvailability = RequiemHudState.get().getHotbarAvailability(this.getCameraPlayer());
         if (hotbarAvailability == InventoryLimiter.HotbarAvailability.NONE) {
             ci.cancel();
         } else {
@@ -36,9 +36,7 @@ package ladysnake.requiem.mixin.client.remnant;
 
 import ladysnake.requiem.api.v1.entity.ability.AbilityType;
 import ladysnake.requiem.api.v1.event.minecraft.client.CrosshairRenderCallback;
-import ladysnake.requiem.api.v1.possession.Possessable;
-import ladysnake.requiem.api.v1.possession.PossessionComponent;
-import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.client.RequiemHudState;
 import ladysnake.requiem.common.impl.ability.PlayerAbilityController;
 import ladysnake.requiem.common.tag.RequiemFluidTags;
 import net.minecraft.client.MinecraftClient;
@@ -110,7 +108,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
     private int preventArmorRender(int armor) {
         assert client.player != null;
 
-        if (RemnantComponent.get(client.player).isIncorporeal()) {
+        if (RequiemHudState.get().isIncorporeal(client.player)) {
             // Make everything that follows *invisible*
             return 0;
         }
@@ -130,7 +128,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
     )
     private float preventHealthRender(float maxHealth) {
         assert client.player != null;
-        if (RemnantComponent.get(client.player).isIncorporeal()) {
+        if (RequiemHudState.get().isIncorporeal(client.player)) {
             return 0;
         }
         return maxHealth;
@@ -148,7 +146,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
     )
     private int preventAbsorptionRender(int absorption) {
         assert client.player != null;
-        if (RemnantComponent.get(client.player).isIncorporeal()) {
+        if (RequiemHudState.get().isIncorporeal(client.player)) {
             return 0;
         }
         return absorption;
@@ -162,12 +160,9 @@ public abstract class InGameHudMixin extends DrawableHelper {
     private int preventFoodRender(int mountHeartCount) {
         ClientPlayerEntity player = this.client.player;
 
-        if (mountHeartCount == 0 && player != null && RemnantComponent.get(player).isVagrant()) {
-            Possessable possessed = (Possessable) PossessionComponent.get(player).getPossessedEntity();
-            if (possessed == null || !possessed.isRegularEater()) {
-                skippedFood = true;
-                return -1;
-            }
+        if (mountHeartCount == 0 && player != null && RequiemHudState.get().shouldHideFood(player)) {
+            skippedFood = true;
+            return -1;
         }
 
         skippedFood = false;
@@ -192,13 +187,8 @@ public abstract class InGameHudMixin extends DrawableHelper {
     private Tag<Fluid> preventAirRender(Tag<Fluid> fluid) {
         PlayerEntity playerEntity = this.getCameraPlayer();
 
-        if (RemnantComponent.get(playerEntity).isVagrant()) {
-            LivingEntity possessed = PossessionComponent.get(playerEntity).getPossessedEntity();
-            if (possessed == null) {
-                return RequiemFluidTags.EMPTY;  // will cause isSubmergedIn to return false
-            } else if (possessed.canBreatheInWater()) {
-                return RequiemFluidTags.EMPTY;  // same as above
-            }
+        if (RequiemHudState.get().shouldHideAir(playerEntity)) {
+            return RequiemFluidTags.EMPTY;  // will cause isSubmergedIn to return false
         }
 
         return fluid;
@@ -207,7 +197,7 @@ public abstract class InGameHudMixin extends DrawableHelper {
     @ModifyVariable(method = "renderStatusBars", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/Util;getMeasuringTimeMs()J"), ordinal = 0)
     private int substituteHealth(int health) {
         assert client.player != null;
-        LivingEntity entity = PossessionComponent.get(client.player).getPossessedEntity();
+        LivingEntity entity = RequiemHudState.get().getPossessedEntity(client.player);
         if (entity != null) {
             return MathHelper.ceil(entity.getHealth());
         }
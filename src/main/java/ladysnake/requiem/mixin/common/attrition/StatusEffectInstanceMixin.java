@@ -34,7 +34,7 @@
  */
 package ladysnake.requiem.mixin.common.attrition;
 
-import ladysnake.requiem.api.v1.remnant.StickyStatusEffect;
+import ladysnake.requiem.common.entity.internal.FlaggedStatusEffect;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
@@ -54,7 +54,7 @@ public abstract class StatusEffectInstanceMixin {
 
     @Inject(method = "update", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/effect/StatusEffectInstance;updateDuration()I"))
     private void preventSoulboundCountdown(LivingEntity livingEntity, Runnable r, CallbackInfoReturnable<Boolean> cir) {
-        if (StickyStatusEffect.shouldStick(this.getEffectType(), livingEntity)) {
+        if (FlaggedStatusEffect.shouldStick(this.getEffectType(), livingEntity)) {
             this.duration++; // revert the duration decrement
         }
     }
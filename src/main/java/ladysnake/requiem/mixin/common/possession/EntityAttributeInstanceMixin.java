@@ -38,27 +38,48 @@ import ladysnake.requiem.common.entity.attribute.NonDeterministicAttribute;
 import ladysnake.requiem.common.entity.attribute.NonDeterministicModifier;
 import net.minecraft.entity.attribute.EntityAttributeInstance;
 import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+import java.util.Arrays;
 
 @Mixin(EntityAttributeInstance.class)
 public abstract class EntityAttributeInstanceMixin implements NonDeterministicAttribute {
+    @Shadow private double value;
+
     @Unique
-    private @Nullable NonDeterministicModifier finalModifier;
+    private @Nullable NonDeterministicModifier[] finalModifiers;
 
     @Override
     public void addFinalModifier(NonDeterministicModifier modifier) {
-        if (this.finalModifier != null) finalModifier = finalModifier.andThen(modifier);
-        else this.finalModifier = modifier;
+        NonDeterministicModifier[] modifiers = this.finalModifiers;
+        if (modifiers == null) {
+            this.finalModifiers = new NonDeterministicModifier[] {modifier};
+        } else {
+            modifiers = Arrays.copyOf(modifiers, modifiers.length + 1);
+            modifiers[modifiers.length - 1] = modifier;
+            this.finalModifiers = modifiers;
+        }
     }
 
-    @Inject(method = "getValue", at = @At("RETURN"), cancellable = true)
-    private void getValue(CallbackInfoReturnable<Double> cir) {
-        if (this.finalModifier != null) {
-            this.finalModifier.apply(cir.getReturnValueD()).ifPresent(cir::setReturnValue);
+    /**
+     * Applies the final modifiers to the cached value as {@code getValue} reads it,
+     * without the callback allocation and boxing of a cancellable injection
+     */
+    @Redirect(method = "getValue", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/attribute/EntityAttributeInstance;value:D", opcode = Opcodes.GETFIELD))
+    private double applyFinalModifiers(EntityAttributeInstance self) {
+        double value = this.value;
+        NonDeterministicModifier[] modifiers = this.finalModifiers;
+        if (modifiers != null) {
+            double modified = NonDeterministicModifier.applyAll(modifiers, value);
+            if (!Double.isNaN(modified)) {
+                return modified;
+            }
         }
+        return value;
     }
 }
@@ -35,6 +35,7 @@
 package ladysnake.requiem.mixin.common.possession;
 
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.world.World;
@@ -48,7 +49,8 @@ import java.util.function.Predicate;
 public abstract class WorldMixin {
     @ModifyVariable(method = "getOtherEntities(Lnet/minecraft/entity/Entity;Lnet/minecraft/util/math/Box;Ljava/util/function/Predicate;)Ljava/util/List;", at = @At(value = "HEAD"), argsOnly = true)
     private Predicate<Entity> ignorePossessed(Predicate<Entity> predicate, Entity ignored) {
-        if (ignored != null) {
+        // Only possessing entities need an extra filter, skip the component lookup for everything else
+        if (ignored != null && SoulStateEntity.isPossessing(ignored)) {
             LivingEntity possessed = PossessionComponent.getPossessedEntity(ignored);
             if (possessed != null) {
                 Predicate<Entity> appendedPredicate = e -> e != possessed;
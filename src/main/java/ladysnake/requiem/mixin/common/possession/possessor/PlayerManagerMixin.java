@@ -34,13 +34,11 @@
  */
 package ladysnake.requiem.mixin.common.possession.possessor;
 
-import ladysnake.requiem.Requiem;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.common.entity.internal.PossessionResumingPlayer;
 import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityType;
-import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.ClientConnection;
 import net.minecraft.server.PlayerManager;
@@ -53,7 +51,6 @@ import org.spongepowered.asm.mixin.injection.ModifyVariable;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import javax.annotation.Nullable;
-import java.util.UUID;
 
 import static ladysnake.requiem.mixin.common.possession.possessor.PlayerTagKeys.*;
 import static org.spongepowered.asm.mixin.injection.At.Shift.AFTER;
@@ -77,43 +74,12 @@ public abstract class PlayerManagerMixin {
     ) {
         if (serializedPlayer != null && serializedPlayer.contains(POSSESSED_ROOT_TAG, NbtType.COMPOUND)) {
             RemnantComponent.KEY.sync(player);
-            ServerWorld world = player.getServerWorld();
-            CompoundTag serializedPossessedInfo = serializedPlayer.getCompound(POSSESSED_ROOT_TAG);
-            Entity possessedEntityMount = EntityType.loadEntityWithPassengers(
-                    serializedPossessedInfo.getCompound(POSSESSED_ENTITY_TAG),
-                    world,
-                    (entity_1x) -> !world.tryLoadEntity(entity_1x) ? null : entity_1x
-            );
-            if (possessedEntityMount != null) {
-                UUID possessedEntityUuid = serializedPossessedInfo.getUuid(POSSESSED_UUID_TAG);
-                resumePossession(PossessionComponent.get(player), world, possessedEntityMount, possessedEntityUuid);
-            }
+            // Spawning the possessed entity and its vehicles is left to the player's next ticks
+            ((PossessionResumingPlayer) player).requiem_schedulePossessionResume(serializedPlayer.getCompound(POSSESSED_ROOT_TAG));
         }
         return serializedPlayer;
     }
 
-    private void resumePossession(PossessionComponent player, ServerWorld world, Entity possessedEntityMount, UUID possessedEntityUuid) {
-        if (possessedEntityMount instanceof MobEntity && possessedEntityMount.getUuid().equals(possessedEntityUuid)) {
-            player.startPossessing((MobEntity) possessedEntityMount);
-        } else {
-            for (Entity entity : possessedEntityMount.getPassengersDeep()) {
-                if (entity instanceof MobEntity && entity.getUuid().equals(possessedEntityUuid)) {
-                    player.startPossessing((MobEntity) entity);
-                    break;
-                }
-            }
-        }
-
-        if (!player.isPossessing()) {
-            Requiem.LOGGER.warn("Couldn't reattach possessed entity to player");
-            world.removeEntity(possessedEntityMount);
-
-            for (Entity entity : possessedEntityMount.getPassengersDeep()) {
-                world.removeEntity(entity);
-            }
-        }
-    }
-
     @Inject(
             method = "remove",
             at = @At(
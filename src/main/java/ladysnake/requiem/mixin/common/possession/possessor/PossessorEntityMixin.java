@@ -34,11 +34,13 @@
  */
 package ladysnake.requiem.mixin.common.possession.possessor;
 
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 import org.spongepowered.asm.mixin.injection.At;
@@ -46,7 +48,23 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(Entity.class)
-public abstract class PossessorEntityMixin {
+public abstract class PossessorEntityMixin implements SoulStateEntity {
+    @Unique
+    private byte requiem$soulFlags;
+
+    @Override
+    public boolean requiem_hasSoulFlag(int flag) {
+        return (this.requiem$soulFlags & flag) != 0;
+    }
+
+    @Override
+    public void requiem_setSoulFlag(int flag, boolean value) {
+        if (value) {
+            this.requiem$soulFlags |= flag;
+        } else {
+            this.requiem$soulFlags &= ~flag;
+        }
+    }
 
     @Invoker("getX")
     protected abstract double requiem$getX();
@@ -34,14 +34,11 @@
  */
 package ladysnake.requiem.mixin.common.possession.possessor;
 
-import com.mojang.authlib.GameProfile;
 import dev.onyxstudios.cca.api.v3.component.ComponentProvider;
 import ladysnake.requiem.api.v1.entity.MovementAlterer;
 import ladysnake.requiem.api.v1.possession.Possessable;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.RemnantComponent;
-import ladysnake.requiem.common.entity.attribute.NonDeterministicAttribute;
-import ladysnake.requiem.common.entity.attribute.PossessionDelegatingModifier;
 import ladysnake.requiem.common.entity.internal.VariableMobilityEntity;
 import ladysnake.requiem.common.tag.RequiemItemTags;
 import ladysnake.requiem.mixin.common.access.LivingEntityAccessor;
@@ -49,8 +46,6 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityDimensions;
 import net.minecraft.entity.EntityPose;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.attribute.EntityAttribute;
-import net.minecraft.entity.attribute.EntityAttributeInstance;
 import net.minecraft.entity.mob.DrownedEntity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.mob.ZombieEntity;
@@ -63,8 +58,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.network.packet.s2c.play.PlayerPositionLookS2CPacket;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -85,18 +78,6 @@ public abstract class PossessorPlayerEntityMixin extends PossessorLivingEntityMi
     @Shadow
     public abstract ItemCooldownManager getItemCooldownManager();
 
-    @Inject(method = "<init>", at = @At("RETURN"))
-    private void initAttributes(World world, BlockPos pos, float yaw, GameProfile profile, CallbackInfo ci) {
-        // Replace every registered attribute
-        for (EntityAttribute attribute : Registry.ATTRIBUTE) {
-            // Note: this fills the attribute map for the player, whether this is an issue is to be determined
-            EntityAttributeInstance current = this.requiem$getAttributeInstance(attribute);
-            if (current != null) {
-                ((NonDeterministicAttribute) current).addFinalModifier(new PossessionDelegatingModifier(current.getAttribute(), PossessionComponent.KEY.get(this)));
-            }
-        }
-    }
-
     @Inject(method = "travel", at = @At("HEAD"), cancellable = true)
     private void travel(CallbackInfo info) {
         @SuppressWarnings("ConstantConditions") Entity possessed = PossessionComponent.getPossessedEntity((Entity) (Object) this);
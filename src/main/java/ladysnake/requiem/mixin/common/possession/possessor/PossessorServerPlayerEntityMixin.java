@@ -40,6 +40,8 @@ import ladysnake.requiem.api.v1.RequiemPlayer;
 import ladysnake.requiem.api.v1.possession.PossessionComponent;
 import ladysnake.requiem.api.v1.remnant.MobResurrectable;
 import ladysnake.requiem.common.advancement.criterion.RequiemCriteria;
+import ladysnake.requiem.common.entity.internal.PossessionResumingPlayer;
+import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -47,10 +49,12 @@ import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -60,14 +64,29 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Function;
 
 import static ladysnake.requiem.mixin.common.possession.possessor.PlayerTagKeys.*;
 
 @Mixin(ServerPlayerEntity.class)
-public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity implements MobResurrectable, RequiemPlayer {
+public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity implements MobResurrectable, RequiemPlayer, PossessionResumingPlayer {
+    /**
+     * Maximum number of ticks to wait for the possessed entity's chunk before spawning it back anyway
+     */
+    @Unique
+    private static final int MAX_POSSESSION_RESUME_DELAY = 40;
+
     @Nullable
     private CompoundTag requiem_possessedEntityTag;
+    /**
+     * Possessed root read at login, spawned back by {@link #resumePendingPossession(CallbackInfo)}
+     */
+    @Unique
+    private @Nullable CompoundTag requiem$pendingPossessedRoot;
+    @Unique
+    private int requiem$pendingPossessionTicks;
 
     public PossessorServerPlayerEntityMixin(World world, BlockPos pos, float yaw, GameProfile profile) {
         super(world, pos, yaw, profile);
@@ -114,6 +133,81 @@ public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity impl
         this.requiem_possessedEntityTag = serializedSecondLife;
     }
 
+    @Override
+    public void requiem_schedulePossessionResume(CompoundTag possessedRoot) {
+        this.requiem$pendingPossessedRoot = possessedRoot;
+        this.requiem$pendingPossessionTicks = 0;
+    }
+
+    @Override
+    public boolean requiem_isPossessionResumePending() {
+        return this.requiem$pendingPossessedRoot != null;
+    }
+
+    @Override
+    public void requiem_resumePendingPossession() {
+        if (this.requiem$pendingPossessedRoot != null) {
+            this.requiem$resumePossession();
+        }
+    }
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void resumePendingPossession(CallbackInfo ci) {
+        if (this.requiem$pendingPossessedRoot != null) {
+            if (this.requiem$isPossessedChunkLoaded(this.requiem$pendingPossessedRoot) || ++this.requiem$pendingPossessionTicks > MAX_POSSESSION_RESUME_DELAY) {
+                this.requiem$resumePossession();
+            }
+        }
+    }
+
+    @Unique
+    private boolean requiem$isPossessedChunkLoaded(CompoundTag possessedRoot) {
+        ListTag pos = possessedRoot.getCompound(POSSESSED_ENTITY_TAG).getList("Pos", NbtType.DOUBLE);
+        if (pos.size() != 3) {
+            return true;
+        }
+        return this.world.getChunkManager().isChunkLoaded(MathHelper.floor(pos.getDouble(0)) >> 4, MathHelper.floor(pos.getDouble(2)) >> 4);
+    }
+
+    @Unique
+    private void requiem$resumePossession() {
+        CompoundTag serializedPossessedInfo = Objects.requireNonNull(this.requiem$pendingPossessedRoot);
+        this.requiem$pendingPossessedRoot = null;
+        ServerWorld world = (ServerWorld) this.world;
+        Entity possessedEntityMount = EntityType.loadEntityWithPassengers(
+                serializedPossessedInfo.getCompound(POSSESSED_ENTITY_TAG),
+                world,
+                (entity_1x) -> !world.tryLoadEntity(entity_1x) ? null : entity_1x
+        );
+        if (possessedEntityMount != null) {
+            UUID possessedEntityUuid = serializedPossessedInfo.getUuid(POSSESSED_UUID_TAG);
+            requiem$reattachPossessed(PossessionComponent.get(this), world, possessedEntityMount, possessedEntityUuid);
+        }
+    }
+
+    @Unique
+    private static void requiem$reattachPossessed(PossessionComponent player, ServerWorld world, Entity possessedEntityMount, UUID possessedEntityUuid) {
+        if (possessedEntityMount instanceof MobEntity && possessedEntityMount.getUuid().equals(possessedEntityUuid)) {
+            player.startPossessing((MobEntity) possessedEntityMount);
+        } else {
+            for (Entity entity : possessedEntityMount.getPassengersDeep()) {
+                if (entity instanceof MobEntity && entity.getUuid().equals(possessedEntityUuid)) {
+                    player.startPossessing((MobEntity) entity);
+                    break;
+                }
+            }
+        }
+
+        if (!player.isPossessing()) {
+            Requiem.LOGGER.warn("Couldn't reattach possessed entity to player");
+            world.removeEntity(possessedEntityMount);
+
+            for (Entity entity : possessedEntityMount.getPassengersDeep()) {
+                world.removeEntity(entity);
+            }
+        }
+    }
+
     @Inject(method = "moveToWorld", at = @At(value = "HEAD", shift = At.Shift.AFTER))
     // Let cancelling mixins do their job
     private void changePossessedDimension(ServerWorld dim, CallbackInfoReturnable<Entity> info) {
@@ -128,6 +222,9 @@ public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity impl
 
     @Unique
     private void prepareDimensionChange() {
+        // The possessed entity must be in the world it was saved in before it can follow the player
+        this.requiem_resumePendingPossession();
+
         PossessionComponent possessionComponent = PossessionComponent.get(this);
 
         if (possessionComponent.isPossessing()) {
@@ -211,6 +308,9 @@ public abstract class PossessorServerPlayerEntityMixin extends PlayerEntity impl
             possessedRoot.put(POSSESSED_ENTITY_TAG, serializedPossessed);
             possessedRoot.putUuid(POSSESSED_UUID_TAG, possessedEntity.getUuid());
             tag.put(POSSESSED_ROOT_TAG, possessedRoot);
+        } else if (this.requiem$pendingPossessedRoot != null) {
+            // copied, as the saved data may be modified independently
+            tag.put(POSSESSED_ROOT_TAG, this.requiem$pendingPossessedRoot.copy());
         } else if (this.requiem_possessedEntityTag != null) {
             CompoundTag possessedRoot = new CompoundTag();
             possessedRoot.put(POSSESSED_ENTITY_TAG, this.requiem_possessedEntityTag);
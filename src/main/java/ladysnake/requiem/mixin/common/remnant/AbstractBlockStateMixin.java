@@ -35,24 +35,35 @@
 package ladysnake.requiem.mixin.common.remnant;
 
 import ladysnake.requiem.common.tag.RequiemBlockTags;
+import ladysnake.requiem.common.tag.TagIndexedBlockState;
 import ladysnake.requiem.common.util.ExtendedShapeContext;
 import net.minecraft.block.AbstractBlock;
-import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.ShapeContext;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.BlockView;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(AbstractBlock.AbstractBlockState.class)
-public abstract class AbstractBlockStateMixin {
-    @Shadow
-    public abstract Block getBlock();
+public abstract class AbstractBlockStateMixin implements TagIndexedBlockState {
+    @Unique
+    private boolean requiem$soulImpermeable;
+
+    @Override
+    public boolean requiem_isSoulImpermeable() {
+        return this.requiem$soulImpermeable;
+    }
+
+    @Override
+    public void requiem_setSoulImpermeable(boolean soulImpermeable) {
+        this.requiem$soulImpermeable = soulImpermeable;
+    }
 
     @Inject(
         at = @At("HEAD"),
@@ -60,7 +71,7 @@ public abstract class AbstractBlockStateMixin {
         cancellable = true
     )
     private void phaseThroughBlocks(BlockView world, BlockPos pos, ShapeContext context, CallbackInfoReturnable<VoxelShape> info) {
-        if (((ExtendedShapeContext) context).requiem_isNoClipping() && !this.getBlock().isIn(RequiemBlockTags.SOUL_IMPERMEABLE)) {
+        if (((ExtendedShapeContext) context).requiem_isNoClipping() && !RequiemBlockTags.isSoulImpermeable((BlockState) (Object) this)) {
             info.setReturnValue(VoxelShapes.empty());
         }
     }
@@ -34,7 +34,7 @@
  */
 package ladysnake.requiem.mixin.common.remnant;
 
-import ladysnake.requiem.api.v1.remnant.RemnantComponent;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import net.minecraft.entity.Entity;
 import net.minecraft.predicate.entity.EntityPredicates;
 import org.spongepowered.asm.mixin.Dynamic;
@@ -50,7 +50,7 @@ public abstract class EntityPredicatesMixin {
     @Dynamic("Lambda method injection")
     @Inject(method = {"method_5910", "method_24517"}, at = @At("RETURN"), cancellable = true)
     private static void exceptCreativeOrSpectator(@Nullable Entity tested, CallbackInfoReturnable<Boolean> info) {
-        if (info.getReturnValueZ() && tested != null && RemnantComponent.isVagrant(tested)) {
+        if (info.getReturnValueZ() && tested != null && SoulStateEntity.isVagrant(tested)) {
             info.setReturnValue(false);
         }
     }
@@ -34,11 +34,10 @@
  */
 package ladysnake.requiem.mixin.common.remnant;
 
-import ladysnake.requiem.api.v1.entity.MovementAlterer;
+import ladysnake.requiem.common.entity.internal.SoulStateEntity;
 import ladysnake.requiem.common.util.ExtendedShapeContext;
 import net.minecraft.block.EntityShapeContext;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.player.PlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -52,7 +51,7 @@ public abstract class EntityShapeContextMixin implements ExtendedShapeContext {
 
     @Inject(at = @At("RETURN"), method = "<init>(Lnet/minecraft/entity/Entity;)V")
     private void setEntityField(Entity entity, CallbackInfo info) {
-        this.noClipping = entity instanceof PlayerEntity && MovementAlterer.KEY.get(entity).isNoClipping();
+        this.noClipping = SoulStateEntity.isNoClipping(entity);
     }
 
     @Override